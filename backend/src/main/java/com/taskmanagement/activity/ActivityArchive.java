@@ -0,0 +1,158 @@
+package com.taskmanagement.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.ActivityArchiveChunk;
+import com.taskmanagement.repository.ActivityArchiveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archive of old activities in the {@code activity_archive} table, shared by every instance.
+ * <p>
+ * A task's archived activities are stored as {@link ActivityArchiveChunk}s: gzip-compressed JSON lines,
+ * so reading a task's history decompresses only its own chunks. Each append tops up the task's newest
+ * chunk until it holds {@code activity.archive.chunk-activities} activities, then rolls over to new
+ * chunks; full chunks are never rewritten, so an append costs at most one chunk rewrite per task
+ * however long its history. A chunk whose compressed data would exceed {@link #MAX_CHUNK_BYTES} is
+ * split. Appends join the caller's transaction, so archiving a batch and deleting it from
+ * {@code activities} commit together.
+ */
+@Component
+public class ActivityArchive {
+
+    /** Largest compressed chunk written, well inside the 16MB data column. */
+    static final int MAX_CHUNK_BYTES = 8 * 1024 * 1024;
+
+    private static final Comparator<Activity> CHRONOLOGICAL =
+            Comparator.comparing(Activity::getCreatedAt).thenComparing(Activity::getId);
+
+    @Autowired
+    private ActivityArchiveRepository activityArchiveRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${activity.archive.chunk-activities:500}")
+    private int chunkActivities;
+
+    /**
+     * Archive activities, topping up each task's newest chunk and rolling over to new chunks.
+     *
+     * @param activities the activities to archive
+     * @throws IllegalStateException if a single activity is too large to archive
+     */
+    public void append(List<Activity> activities) {
+        Map<Long, List<Activity>> byTask = new TreeMap<>(activities.stream()
+                .collect(Collectors.groupingBy(Activity::getTaskId)));
+        byTask.forEach((taskId, added) -> {
+            List<Activity> pending = new ArrayList<>(added);
+            Optional<ActivityArchiveChunk> open = activityArchiveRepository.findFirstByTaskIdOrderByIdDesc(taskId)
+                    .filter(c -> c.getActivityCount() < chunkActivities);
+            if (open.isPresent()) {
+                pending.addAll(decompress(open.get()));
+                activityArchiveRepository.delete(open.get());
+            }
+            List<Activity> sorted = distinct(pending);
+            for (int from = 0; from < sorted.size(); from += chunkActivities) {
+                save(taskId, sorted.subList(from, Math.min(sorted.size(), from + chunkActivities)));
+            }
+        });
+    }
+
+    /**
+     * Check whether any history of a task has been archived.
+     *
+     * @param taskId the task ID
+     * @return true if the archive holds activities of the task
+     */
+    public boolean contains(Long taskId) {
+        return activityArchiveRepository.existsByTaskId(taskId);
+    }
+
+    /**
+     * Read the archived history of a task.
+     *
+     * @param taskId the task ID
+     * @return the task's archived activities, oldest first, without duplicates
+     */
+    public List<Activity> read(Long taskId) {
+        List<Activity> activities = new ArrayList<>();
+        for (ActivityArchiveChunk chunk : activityArchiveRepository.findByTaskIdOrderByIdAsc(taskId)) {
+            activities.addAll(decompress(chunk));
+        }
+        return distinct(activities);
+    }
+
+    private static List<Activity> distinct(Collection<Activity> activities) {
+        Map<Long, Activity> byId = new LinkedHashMap<>();
+        activities.forEach(a -> byId.putIfAbsent(a.getId(), a));
+        List<Activity> result = new ArrayList<>(byId.values());
+        result.sort(CHRONOLOGICAL);
+        return result;
+    }
+
+    private void save(Long taskId, List<Activity> activities) {
+        ActivityArchiveChunk chunk = chunk(taskId, activities);
+        if (chunk.getData().length <= MAX_CHUNK_BYTES) {
+            activityArchiveRepository.save(chunk);
+        } else if (activities.size() > 1) {
+            int half = activities.size() / 2;
+            save(taskId, activities.subList(0, half));
+            save(taskId, activities.subList(half, activities.size()));
+        } else {
+            throw new IllegalStateException("Activity " + activities.get(0).getId() + " is too large to archive");
+        }
+    }
+
+    private ActivityArchiveChunk chunk(Long taskId, List<Activity> activities) {
+        List<Activity> sorted = new ArrayList<>(activities);
+        sorted.sort(CHRONOLOGICAL);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (Activity activity : sorted) {
+                writer.write(objectMapper.writeValueAsString(activity));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ActivityArchiveChunk(taskId, sorted.size(), bytes.toByteArray());
+    }
+
+    private List<Activity> decompress(ActivityArchiveChunk chunk) {
+        List<Activity> activities = new ArrayList<>(chunk.getActivityCount());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(chunk.getData())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                activities.add(objectMapper.readValue(line, Activity.class));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return activities;
+    }
+}
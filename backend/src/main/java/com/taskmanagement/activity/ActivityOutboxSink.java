@@ -0,0 +1,95 @@
+package com.taskmanagement.activity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.ActivityType;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.outbox.OutboxSink;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Derives activity log entries from outbox events and writes each relayed batch with
+ * {@link ActivityWriter}. It is a shared sink: one instance at a time writes a batch, in the transaction
+ * that advances the cursor, and each activity records its source event so a batch is never written twice.
+ * {@link RecentActivitySink} then makes the written activities visible to every instance's feed.
+ * <p>
+ * Created tasks record CREATED, updates record STATUS_CHANGED for a status change and UPDATED listing
+ * the other changed fields, and new comments record COMMENT. Deletions record nothing.
+ */
+@Component
+public class ActivityOutboxSink implements OutboxSink {
+
+    @Autowired
+    private ActivityWriter activityWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "activity";
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) throws Exception {
+        List<Activity> activities = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            collect(event, activities);
+        }
+        activityWriter.write(activities);
+    }
+
+    /**
+     * Build the activities describing one outbox event.
+     *
+     * @param event the outbox event
+     * @param out the list to add activities to
+     */
+    void collect(OutboxEvent event, List<Activity> out) throws Exception {
+        boolean task = OutboxEvent.TASK.equals(event.getAggregateType());
+        boolean comment = OutboxEvent.COMMENT.equals(event.getAggregateType());
+        if (!(task || comment) || "DELETED".equals(event.getEventType())) {
+            return;
+        }
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        if (comment) {
+            if ("CREATED".equals(event.getEventType())) {
+                out.add(activity(event, payload.path("taskId").asLong(), ActivityType.COMMENT,
+                        payload.path("authorId"), payload.path("content").asText()));
+            }
+            return;
+        }
+        JsonNode actorId = payload.path("actorId");
+        if ("CREATED".equals(event.getEventType())) {
+            out.add(activity(event, event.getAggregateId(), ActivityType.CREATED, actorId, "Task created"));
+            return;
+        }
+        List<String> others = new ArrayList<>();
+        for (JsonNode change : payload.path("changes")) {
+            String field = change.path("field").asText();
+            String from = change.path("from").asText();
+            String to = change.path("to").asText();
+            if (field.equals("status")) {
+                out.add(activity(event, event.getAggregateId(), ActivityType.STATUS_CHANGED, actorId,
+                        "Status: " + from + " → " + to));
+            } else {
+                others.add(field + ": " + from + " → " + to);
+            }
+        }
+        if (!others.isEmpty()) {
+            out.add(activity(event, event.getAggregateId(), ActivityType.UPDATED, actorId, String.join("; ", others)));
+        }
+    }
+
+    private Activity activity(OutboxEvent event, Long taskId, ActivityType type, JsonNode actorId, String detail) {
+        Activity activity = new Activity(taskId, type, actorId.isNumber() ? actorId.asLong() : null, null, detail);
+        activity.setSourceEventId(event.getId());
+        activity.setCreatedAt(event.getCreatedAt());
+        return activity;
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ActivityRepository;
+import com.taskmanagement.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch writer for {@link Activity} rows.
+ * <p>
+ * Writes a batch as one JDBC batch insert, resolving the actor names of the whole batch with a single
+ * lookup. It is fed by {@link ActivityOutboxSink} from the outbox relay thread, so request threads
+ * never wait on activity inserts. Activities whose source event was already written are skipped, so a
+ * redelivered batch does not duplicate them.
+ */
+@Component
+public class ActivityWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO activities (task_id, type, actor_id, actor_name, detail, source_event_id, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    /**
+     * Insert a batch of activities.
+     *
+     * @param activities the activities; actor names are resolved from actor IDs where not set, and
+     *                   generated IDs are assigned back to the ones written
+     */
+    public void write(List<Activity> activities) {
+        List<Activity> batch = withoutWritten(activities);
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Long> actorIds = batch.stream()
+                .filter(a -> a.getActorName() == null)
+                .map(Activity::getActorId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, String> names = actorIds.isEmpty() ? Map.of()
+                : userRepository.findAllById(actorIds).stream()
+                        .collect(Collectors.toMap(User::getId, User::getUsername));
+        Function<Activity, String> nameOf = a -> a.getActorName() != null ? a.getActorName() : names.get(a.getActorId());
+
+        batch.forEach(a -> a.setActorName(nameOf.apply(a)));
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Activity a = batch.get(i);
+                        ps.setLong(1, a.getTaskId());
+                        ps.setString(2, a.getType().name());
+                        if (a.getActorId() != null) {
+                            ps.setLong(3, a.getActorId());
+                        } else {
+                            ps.setNull(3, Types.BIGINT);
+                        }
+                        ps.setString(4, a.getActorName());
+                        ps.setString(5, a.getDetail());
+                        if (a.getSourceEventId() != null) {
+                            ps.setLong(6, a.getSourceEventId());
+                        } else {
+                            ps.setNull(6, Types.BIGINT);
+                        }
+                        ps.setTimestamp(7, Timestamp.valueOf(a.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < batch.size() && i < generated.size(); i++) {
+            batch.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private List<Activity> withoutWritten(List<Activity> activities) {
+        List<Long> sourceIds = activities.stream()
+                .map(Activity::getSourceEventId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (sourceIds.isEmpty()) {
+            return activities;
+        }
+        Set<String> written = activityRepository.findBySourceEventIdIn(sourceIds).stream()
+                .map(a -> a.getSourceEventId() + ":" + a.getType())
+                .collect(Collectors.toSet());
+        if (written.isEmpty()) {
+            return activities;
+        }
+        return activities.stream()
+                .filter(a -> a.getSourceEventId() == null || !written.contains(a.getSourceEventId() + ":" + a.getType()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,134 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.repository.KeysetCursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-memory window over the newest activities, ordered by {@code (createdAt, id)}.
+ * <p>
+ * The buffer tracks a boundary below which it may be missing rows (because they were evicted or never
+ * loaded). A feed page is answered from memory when it can be filled without crossing that boundary;
+ * otherwise the caller falls back to the database.
+ */
+public class RecentActivityBuffer {
+
+    private record Key(LocalDateTime createdAt, long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::createdAt).thenComparingLong(Key::id);
+
+        static Key of(Activity activity) {
+            return new Key(activity.getCreatedAt(), activity.getId());
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private final int capacity;
+    private final ConcurrentSkipListMap<Key, Activity> entries = new ConcurrentSkipListMap<>();
+    /** Every activity newer than this key is present; null when nothing has ever been left out. */
+    private volatile Key boundary;
+
+    public RecentActivityBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Merge the newest rows read from the database.
+     *
+     * @param newest rows in any order
+     * @param complete true if these are all the rows that exist
+     */
+    public synchronized void load(Collection<Activity> newest, boolean complete) {
+        Key oldest = null;
+        for (Activity activity : newest) {
+            Key key = Key.of(activity);
+            entries.putIfAbsent(key, activity);
+            oldest = oldest == null || key.compareTo(oldest) < 0 ? key : oldest;
+        }
+        if (!complete && oldest != null) {
+            raiseBoundary(oldest);
+        }
+        trim();
+    }
+
+    /**
+     * Add newly written activities. Rows older than the boundary are ignored.
+     *
+     * @param activities activities with IDs assigned
+     */
+    public synchronized void addAll(Collection<Activity> activities) {
+        for (Activity activity : activities) {
+            Key key = Key.of(activity);
+            if (boundary == null || key.compareTo(boundary) > 0) {
+                entries.put(key, activity);
+            }
+        }
+        trim();
+    }
+
+    /**
+     * Read a newest-first page from memory.
+     *
+     * @param filter the rows to include
+     * @param before cursor of the last row of the previous page, or null for the first page
+     * @param since earliest creation time of interest, or null
+     * @param max maximum number of rows to return
+     * @return up to {@code max} matching rows, or null if the buffer cannot answer the page
+     */
+    public List<Activity> find(Predicate<Activity> filter, KeysetCursor before, LocalDateTime since, int max) {
+        Key boundaryAtStart = boundary;
+        NavigableMap<Key, Activity> view = entries.descendingMap();
+        if (before != null) {
+            Key from = new Key(before.value(), before.id());
+            if (boundaryAtStart != null && from.compareTo(boundaryAtStart) <= 0) {
+                return null;
+            }
+            view = entries.headMap(from, false).descendingMap();
+        }
+        List<Activity> result = new ArrayList<>();
+        for (Map.Entry<Key, Activity> entry : view.entrySet()) {
+            if (since != null && entry.getKey().createdAt().isBefore(since)) {
+                return result;
+            }
+            if (filter.test(entry.getValue())) {
+                result.add(entry.getValue());
+                if (result.size() == max) {
+                    return result;
+                }
+            }
+        }
+        return boundary == null ? result : null;
+    }
+
+    /**
+     * @return number of buffered activities
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void trim() {
+        while (entries.size() > capacity) {
+            raiseBoundary(entries.pollFirstEntry().getKey());
+        }
+    }
+
+    private void raiseBoundary(Key key) {
+        if (boundary == null || key.compareTo(boundary) > 0) {
+            boundary = key;
+            entries.headMap(key, false).clear();
+        }
+    }
+}
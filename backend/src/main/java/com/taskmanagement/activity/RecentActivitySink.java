@@ -0,0 +1,71 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.outbox.OutboxSink;
+import com.taskmanagement.repository.ActivityRepository;
+import com.taskmanagement.service.ActivityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Adds the activities {@link ActivityOutboxSink} wrote for each relayed batch, and those recorded
+ * directly through {@link ActivityService#createActivity}, to this instance's in-memory feed window.
+ * Runs on every instance, behind the activity sink, and reads the activities back by source event or
+ * ID, so every instance sees them whichever one wrote them. The window is loaded when the instance
+ * starts; adding an activity the load already read replaces it.
+ */
+@Component
+public class RecentActivitySink implements OutboxSink {
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Override
+    public String name() {
+        return "recent-activity";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public String upstream() {
+        return "activity";
+    }
+
+    @Override
+    public boolean loadsState() {
+        return true;
+    }
+
+    @Override
+    public void load() {
+        activityService.loadRecent();
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        List<Long> sourceIds = events.stream()
+                .filter(e -> OutboxEvent.TASK.equals(e.getAggregateType()) || OutboxEvent.COMMENT.equals(e.getAggregateType()))
+                .map(OutboxEvent::getId)
+                .collect(Collectors.toList());
+        List<Long> activityIds = events.stream()
+                .filter(e -> OutboxEvent.ACTIVITY.equals(e.getAggregateType()))
+                .map(OutboxEvent::getAggregateId)
+                .collect(Collectors.toList());
+        if (!sourceIds.isEmpty()) {
+            activityService.addRecent(activityRepository.findBySourceEventIdIn(sourceIds));
+        }
+        if (!activityIds.isEmpty()) {
+            activityService.addRecent(activityRepository.findAllById(activityIds));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Field-level differences between two snapshots of a task.
+ */
+public final class TaskDiff {
+
+    /**
+     * A single changed field.
+     */
+    public record Change(String field, Object from, Object to) {
+        @Override
+        public String toString() {
+            return field + ": " + from + " → " + to;
+        }
+    }
+
+    private TaskDiff() {}
+
+    /**
+     * Compare the user-editable fields of two task snapshots.
+     * Description changes are reported without their values, which may be long.
+     *
+     * @param previous the task before the change
+     * @param current the task after the change
+     * @return the changed fields, in declaration order
+     */
+    public static List<Change> between(Task previous, Task current) {
+        List<Change> changes = new ArrayList<>();
+        compare(changes, "title", previous, current, Task::getTitle);
+        if (!Objects.equals(previous.getDescription(), current.getDescription())) {
+            changes.add(new Change("description", "…", "…"));
+        }
+        compare(changes, "status", previous, current, Task::getStatus);
+        compare(changes, "priority", previous, current, Task::getPriority);
+        compare(changes, "assigneeId", previous, current, Task::getAssigneeId);
+        compare(changes, "dueDate", previous, current, Task::getDueDate);
+        return changes;
+    }
+
+    private static void compare(List<Change> out, String field, Task previous, Task current, Function<Task, Object> getter) {
+        Object from = getter.apply(previous);
+        Object to = getter.apply(current);
+        if (!Objects.equals(from, to)) {
+            out.add(new Change(field, from, to));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.taskmanagement.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -45,6 +46,9 @@ public class CorsConfig {
             configuration.setAllowedHeaders(Arrays.asList(allowedHeaders.split(",")));
         }
         
+        // Let browser clients read task ETags for conditional updates
+        configuration.addExposedHeader(HttpHeaders.ETAG);
+        
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(allowCredentials);
         
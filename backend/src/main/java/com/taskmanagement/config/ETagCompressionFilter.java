@@ -0,0 +1,163 @@
+package com.taskmanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips {@code /api/**} responses that carry a strong ETag.
+ * <p>
+ * Tomcat's connector compression skips responses with a strong ETag, since a strong tag promises
+ * byte-identical bodies and the compressed body is not. This filter compresses them itself, under the
+ * same {@code server.compression.*} settings, and gives the gzip encoding its own strong tag by adding
+ * a {@value #GZIP_SUFFIX} suffix, so both representations keep strong validators. Tomcat leaves the
+ * result alone because {@code Content-Encoding} is already set.
+ * <p>
+ * Clients send the suffixed tag back in {@code If-None-Match} and {@code If-Match}; the suffix is
+ * removed from those headers before the request reaches a controller, which therefore only ever sees
+ * the tags it issued. A {@code 304 Not Modified} answering a suffixed tag carries the suffixed tag.
+ */
+@Component
+public class ETagCompressionFilter extends OncePerRequestFilter {
+
+    static final String GZIP_SUFFIX = "-gzip";
+
+    @Value("${server.compression.enabled:false}")
+    private boolean enabled;
+
+    @Value("${server.compression.mime-types:application/json}")
+    private List<MimeType> mimeTypes;
+
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize minResponseSize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/") || !acceptsGzip(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean gzipValidator = hasGzipTag(request.getHeaders(HttpHeaders.IF_NONE_MATCH));
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(new UnsuffixedRequest(request), buffered);
+
+        String eTag = buffered.getHeader(HttpHeaders.ETAG);
+        if (isStrong(eTag) && buffered.getHeader(HttpHeaders.CONTENT_ENCODING) == null) {
+            if (buffered.getStatus() == HttpServletResponse.SC_NOT_MODIFIED && gzipValidator) {
+                response.setHeader(HttpHeaders.ETAG, withSuffix(eTag));
+            } else if (buffered.getStatus() == HttpServletResponse.SC_OK && isCompressible(buffered)) {
+                byte[] compressed = gzip(buffered.getContentAsByteArray());
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                response.setHeader(HttpHeaders.ETAG, withSuffix(eTag));
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                response.setContentLength(compressed.length);
+                response.getOutputStream().write(compressed);
+                return;
+            }
+        }
+        buffered.copyBodyToResponse();
+    }
+
+    private boolean isCompressible(ContentCachingResponseWrapper response) {
+        if (response.getContentSize() < minResponseSize.toBytes() || response.getContentType() == null) {
+            return false;
+        }
+        MimeType contentType = MimeTypeUtils.parseMimeType(response.getContentType());
+        return mimeTypes.stream().anyMatch(type -> type.equalsTypeAndSubtype(contentType));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (values != null && values.hasMoreElements()) {
+            for (String coding : values.nextElement().split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")
+                        && !(parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStrong(String eTag) {
+        return eTag != null && eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"");
+    }
+
+    private static String withSuffix(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    private static boolean hasGzipTag(Enumeration<String> values) {
+        while (values != null && values.hasMoreElements()) {
+            if (values.nextElement().contains(GZIP_SUFFIX + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove the gzip suffix from every entity tag in a conditional header.
+     *
+     * @param value the header value, may be null
+     * @return the value with suffixed tags replaced by the tags the controller issued
+     */
+    static String withoutSuffix(String value) {
+        return value == null ? null : value.replace(GZIP_SUFFIX + "\"", "\"");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static boolean isConditional(String name) {
+        return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || HttpHeaders.IF_MATCH.equalsIgnoreCase(name);
+    }
+
+    private static class UnsuffixedRequest extends HttpServletRequestWrapper {
+
+        UnsuffixedRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return isConditional(name) ? withoutSuffix(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            Enumeration<String> values = super.getHeaders(name);
+            if (!isConditional(name) || values == null) {
+                return values;
+            }
+            return Collections.enumeration(Collections.list(values).stream()
+                    .map(ETagCompressionFilter::withoutSuffix).toList());
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.taskmanagement.config;
 
+import com.taskmanagement.security.BCryptCalibration;
+import com.taskmanagement.security.BoundedPasswordEncoder;
 import com.taskmanagement.security.JwtAuthenticationFilter;
+import com.taskmanagement.security.RateLimitFilter;
 import com.taskmanagement.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -15,10 +25,15 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Spring Security configuration for JWT authentication.
  */
@@ -27,24 +42,70 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+    private static final String BCRYPT = "bcrypt";
+
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Value("${auth.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${auth.hashing.queue-capacity:32}")
+    private int hashingQueueCapacity;
+
+    @Value("${auth.hashing.timeout-ms:5000}")
+    private long hashingTimeoutMs;
+
+    @Value("${auth.hashing.strength:0}")
+    private int hashingStrength;
+
+    @Value("${auth.hashing.target-ms:250}")
+    private long hashingTargetMs;
+
+    @Value("${auth.hashing.min-strength:10}")
+    private int hashingMinStrength;
+
+    @Value("${auth.hashing.max-strength:16}")
+    private int hashingMaxStrength;
+
     /**
-     * Password encoder bean.
+     * Password encoder bean. New hashes are written as {@code {bcrypt}} at a cost calibrated at startup to
+     * the configured latency budget, unless a fixed strength is set. Legacy unprefixed BCrypt hashes still
+     * match, and any hash below the current cost reports {@code upgradeEncoding} so it is rehashed on login.
+     * BCrypt runs on a bounded pool sized to the CPU count unless configured, shedding excess sign-ins with 503.
      *
-     * @return BCryptPasswordEncoder
+     * @return delegating BCrypt encoder behind a bounded executor
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        int strength = hashingStrength > 0
+                ? hashingStrength
+                : BCryptCalibration.calibrate(Duration.ofMillis(hashingTargetMs), hashingMinStrength, hashingMaxStrength);
+        log.info("Password hashing uses BCrypt strength {}", strength);
+        Gauge.builder("auth.password.hash.strength", () -> strength)
+                .description("BCrypt cost factor used for new password hashes")
+                .register(meterRegistry);
+
+        Map<String, PasswordEncoder> encoders = Map.of(BCRYPT, new BCryptPasswordEncoder(strength));
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, hashingQueueCapacity, hashingTimeoutMs, meterRegistry);
     }
 
     /**
-     * Authentication provider bean.
+     * Authentication provider bean. Stores a fresh hash after a successful login whose stored hash is outdated.
      *
      * @return DaoAuthenticationProvider
      */
@@ -53,6 +114,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -88,10 +150,14 @@ public class SecurityConfig {
                 auth.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll();
                 // Allow SockJS endpoints (info and transports) to be publicly reachable so the SockJS client
                 // can perform the initial HTTP handshake (e.g. GET /ws/info). STOMP CONNECT will still be
-                // validated by the channel interceptor which requires a JWT on CONNECT frames.
-                auth.requestMatchers("/ws/**").permitAll();
+                // validated by the channel interceptor which requires a JWT on CONNECT frames. The same applies
+                // to the upgrade request of the plain WebSocket endpoint.
+                auth.requestMatchers("/ws/**", "/ws-native").permitAll();
                 // Admin endpoints
                 auth.requestMatchers("/api/admin/**").hasRole("ADMIN");
+                // Actuator: health for probes, everything else (metrics) for admins
+                auth.requestMatchers("/actuator/health").permitAll();
+                auth.requestMatchers("/actuator/**").hasRole("ADMIN");
                 // User endpoints
                 auth.requestMatchers("/api/user/**").hasAnyRole("USER", "ADMIN");
                 // All other endpoints require authentication
@@ -100,8 +166,19 @@ public class SecurityConfig {
             .headers(headers -> headers
                 .frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin)
             )
+            // An expired, invalid or revoked bearer token gets 401 so clients know to refresh it;
+            // requests without a token keep getting 403
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint((request, response, authException) -> {
+                if (request.getAttribute(JwtAuthenticationFilter.INVALID_TOKEN_ATTRIBUTE) != null) {
+                    response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+                    response.sendError(HttpStatus.UNAUTHORIZED.value(), "Invalid or expired token");
+                } else {
+                    new Http403ForbiddenEntryPoint().commence(request, response, authException);
+                }
+            }))
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
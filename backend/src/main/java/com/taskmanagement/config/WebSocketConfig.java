@@ -1,13 +1,29 @@
 package com.taskmanagement.config;
 
 import com.taskmanagement.security.StompAuthChannelInterceptor;
+import com.taskmanagement.websocket.WebSocketSessionRegistry;
+import jakarta.websocket.WebSocketContainer;
+import org.apache.tomcat.websocket.server.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.WebSocketExtension;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.standard.StandardWebSocketUpgradeStrategy;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -16,19 +32,136 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Autowired
     private StompAuthChannelInterceptor stompAuthChannelInterceptor;
 
+    @Autowired
+    private WebSocketSessionRegistry webSocketSessionRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    @Value("${websocket.text-buffer-size:8192}")
+    private int textBufferSize;
+
+    @Value("${websocket.binary-buffer-size:1024}")
+    private int binaryBufferSize;
+
+    @Value("${websocket.inbound.pool-size:0}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.outbound.pool-size:0}")
+    private int outboundPoolSize;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    /**
+     * Plain WebSocket at {@code /ws-native} for browsers and service clients, SockJS at {@code /ws} as the
+     * fallback for networks that block the upgrade. Both negotiate permessage-deflate when enabled.
+     */
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        registry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
+        DefaultHandshakeHandler handshakeHandler = new DefaultHandshakeHandler(new UpgradeStrategy(compressionEnabled));
+        registry.addEndpoint("/ws-native").setHandshakeHandler(handshakeHandler).setAllowedOriginPatterns("*");
+        registry.addEndpoint("/ws").setHandshakeHandler(handshakeHandler).setAllowedOriginPatterns("*").withSockJS();
+    }
+
+    /**
+     * Per-session receive buffers of Tomcat's WebSocket container. Clients only send small control frames
+     * (CONNECT, SUBSCRIBE), so the buffers are sized for those rather than for the largest broadcast,
+     * which keeps the memory held by every open connection down.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> webSocketBufferCustomizer() {
+        return factory -> factory.addContextCustomizers(context -> {
+            context.addParameter(Constants.TEXT_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM, String.valueOf(textBufferSize));
+            context.addParameter(Constants.BINARY_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM, String.valueOf(binaryBufferSize));
+        });
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(webSocketSessionRegistry::decorate);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompAuthChannelInterceptor);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadExecutor("stomp-inbound-"));
+        } else {
+            sizePool(registration, inboundPoolSize);
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketSessionRegistry);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadExecutor("stomp-outbound-"));
+        } else {
+            sizePool(registration, outboundPoolSize);
+        }
+    }
+
+    /**
+     * Platform-thread pool of the given size, or Spring's default of twice the CPU count when 0. Spring's
+     * queue is unbounded, so the pool never grows past its core size and the setting only overrides the
+     * thread count. The queue is left unbounded: a full queue would reject messages for every session,
+     * while the session registry already evicts the slow consumers that let it grow.
+     */
+    private static void sizePool(ChannelRegistration registration, int poolSize) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+        registration.taskExecutor().corePoolSize(threads).maxPoolSize(threads);
+    }
+
+    /**
+     * Executor starting one virtual thread per message, replacing the bounded platform-thread pools
+     * Spring uses for the client channels by default.
+     */
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * Upgrade strategy offering the container's extensions, minus permessage-deflate when compression is
+     * disabled (it trades CPU and a deflate context per connection for smaller frames).
+     */
+    private static final class UpgradeStrategy extends StandardWebSocketUpgradeStrategy {
+
+        private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+        private final boolean compressionEnabled;
+
+        private UpgradeStrategy(boolean compressionEnabled) {
+            this.compressionEnabled = compressionEnabled;
+        }
+
+        @Override
+        protected List<WebSocketExtension> getInstalledExtensions(WebSocketContainer container) {
+            List<WebSocketExtension> installed = super.getInstalledExtensions(container);
+            if (compressionEnabled) {
+                return installed;
+            }
+            return installed.stream().filter(extension -> !PERMESSAGE_DEFLATE.equals(extension.getName())).toList();
+        }
     }
 }
@@ -1,16 +1,19 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.ActivityCreateRequest;
+import com.taskmanagement.dto.ActivityPageResponse;
 import com.taskmanagement.dto.ActivityResponse;
 import com.taskmanagement.entity.Activity;
 import com.taskmanagement.service.ActivityService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,4 +40,20 @@ public class ActivityController {
         List<ActivityResponse> resp = activities.stream().map(ActivityResponse::new).collect(Collectors.toList());
         return ResponseEntity.ok(resp);
     }
+
+    /**
+     * Newest-first activity feed across all tasks, optionally narrowed to one task, one actor or a
+     * time range. Pass the returned {@code nextCursor} as {@code after} to page back in time.
+     */
+    @GetMapping("/feed")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ActivityPageResponse> getFeed(
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(activityService.getFeed(taskId, actorId, since, until, after, limit));
+    }
 }
@@ -2,13 +2,17 @@ package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.AuthResponse;
 import com.taskmanagement.dto.LoginRequest;
+import com.taskmanagement.dto.RefreshRequest;
 import com.taskmanagement.dto.RegisterRequest;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.exception.ConflictException;
 import com.taskmanagement.exception.EntityNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.security.TokenDenylist;
+import com.taskmanagement.service.RefreshTokenService;
 import com.taskmanagement.service.UserService;
 import com.taskmanagement.util.JwtUtils;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -18,6 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -43,6 +48,12 @@ public class AuthController {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private TokenDenylist tokenDenylist;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     /**
      * Register a new user.
      *
@@ -64,6 +75,7 @@ public class AuthController {
                                     value = """
                                     {
                                         "token": "eyJhbGciOiJIUzUxMiJ9...",
+                                        "refreshToken": "h3Yx0c2Jm9l...",
                                         "id": 1,
                                         "username": "johndoe",
                                         "email": "john@example.com",
@@ -102,26 +114,8 @@ public class AuthController {
             registerRequest.getPassword()
         );
 
-        // Authenticate user and generate JWT token
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(
-                registerRequest.getUsername(),
-                registerRequest.getPassword()
-            )
-        );
-
-        String jwt = jwtUtils.generateJwtToken(authentication);
-
-        // Create response
-        AuthResponse authResponse = new AuthResponse(
-            jwt,
-            user.getId(),
-            user.getUsername(),
-            user.getEmail(),
-            user.getRole().name()
-        );
-
-        return ResponseEntity.ok(authResponse);
+        // The password was just hashed for this user, so issue the tokens without verifying it again
+        return ResponseEntity.ok(issueTokens(user, refreshTokenService.issue(user)));
     }
 
     /**
@@ -176,6 +170,7 @@ public class AuthController {
                                     value = """
                                     {
                                         "token": "eyJhbGciOiJIUzUxMiJ9...",
+                                        "refreshToken": "h3Yx0c2Jm9l...",
                                         "id": 1,
                                         "username": "johndoe",
                                         "email": "john@example.com",
@@ -185,6 +180,10 @@ public class AuthController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many concurrent sign-ins - retry after the Retry-After delay"
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Invalid username or password",
@@ -211,25 +210,80 @@ public class AuthController {
                 )
             );
 
-            // Generate JWT token
-            String jwt = jwtUtils.generateJwtToken(authentication);
-
             // Get user details
             User user = userService.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-            // Create response
-            AuthResponse authResponse = new AuthResponse(
-                jwt,
-                user.getId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.getRole().name()
-            );
-
-            return ResponseEntity.ok(authResponse);
+            return ResponseEntity.ok(issueTokens(user, refreshTokenService.issue(user)));
         } catch (AuthenticationException e) {
             throw new UnauthorizedException("Invalid username or password");
         }
     }
+
+    /**
+     * Log out by revoking the presented token until it expires.
+     *
+     * @param authorization the Authorization header carrying the bearer token
+     * @param refreshRequest optional refresh token whose family is revoked as well
+     * @return empty response
+     */
+    @Operation(
+            summary = "User logout",
+            description = "Revoke the bearer token so it is rejected by every instance until it expires, "
+                    + "and the refresh token family if one is given"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked, or no valid token was presented")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) RefreshRequest refreshRequest) {
+        if (refreshRequest != null && refreshRequest.getRefreshToken() != null) {
+            refreshTokenService.revoke(refreshRequest.getRefreshToken());
+        }
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            Claims claims = jwtUtils.parseValidClaims(authorization.substring(7));
+            if (claims != null && claims.getId() != null) {
+                tokenDenylist.revoke(claims.getId(), claims.getExpiration().toInstant());
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     *
+     * @param refreshRequest the refresh request
+     * @return authentication response with the new token pair
+     */
+    @Operation(
+            summary = "Refresh tokens",
+            description = "Rotate a refresh token: the presented token is consumed and a new access and refresh token "
+                    + "are returned. Presenting a consumed token again revokes every token descended from the same login"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tokens refreshed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AuthResponse.class))
+            ),
+            @ApiResponse(responseCode = "403", description = "Refresh token unknown, expired or already used")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest refreshRequest) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshRequest.getRefreshToken());
+        return ResponseEntity.ok(issueTokens(rotation.user(), rotation.refreshToken()));
+    }
+
+    private AuthResponse issueTokens(User user, String refreshToken) {
+        AuthResponse authResponse = new AuthResponse(
+            jwtUtils.generateAccessToken(user),
+            user.getId(),
+            user.getUsername(),
+            user.getEmail(),
+            user.getRole().name()
+        );
+        authResponse.setRefreshToken(refreshToken);
+        return authResponse;
+    }
 }
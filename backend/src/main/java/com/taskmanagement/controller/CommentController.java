@@ -1,11 +1,13 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.CommentCreateRequest;
+import com.taskmanagement.dto.CommentPageResponse;
 import com.taskmanagement.dto.CommentResponse;
 import com.taskmanagement.entity.Comment;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.exception.EntityNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.repository.KeysetCursor;
 import com.taskmanagement.service.CommentService;
 import com.taskmanagement.service.UserDetailsServiceImpl;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +20,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -26,6 +30,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Comments", description = "Endpoints for task comments")
 public class CommentController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private CommentService commentService;
 
@@ -61,16 +67,44 @@ public class CommentController {
     return ResponseEntity.ok(resp);
     }
 
-    @GetMapping("/task/{taskId}")
-    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<CommentResponse>> getCommentsForTask(@PathVariable Long taskId) {
-        List<Comment> comments = commentService.getCommentsByTaskId(taskId);
-        List<CommentResponse> responses = comments.stream().map(c -> {
+    /**
+     * Map comments to responses, resolving author usernames with one lookup.
+     */
+    private List<CommentResponse> toResponses(List<Comment> comments) {
+        Set<Long> authorIds = comments.stream().map(Comment::getAuthorId).collect(Collectors.toSet());
+        Map<Long, String> usernames = userRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+        return comments.stream().map(c -> {
             CommentResponse r = new CommentResponse(c);
-            userRepository.findById(c.getAuthorId()).ifPresent(u -> r.setAuthorUsername(u.getUsername()));
+            r.setAuthorUsername(usernames.get(c.getAuthorId()));
             return r;
         }).collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/task/{taskId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<CommentResponse>> getCommentsForTask(@PathVariable Long taskId) {
+        return ResponseEntity.ok(toResponses(commentService.getCommentsByTaskId(taskId)));
+    }
+
+    /**
+     * Oldest-first page of a task's comments. Pass the returned {@code nextCursor} as {@code after}
+     * to fetch the next page.
+     */
+    @GetMapping("/task/{taskId}/page")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<CommentPageResponse> getCommentPage(@PathVariable Long taskId,
+                                                              @RequestParam(required = false) String after,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Comment> rows = commentService.getCommentPage(taskId, after, size);
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Comment last = rows.get(size - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return ResponseEntity.ok(new CommentPageResponse(toResponses(rows), nextCursor));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,120 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.SavedFilterDelta;
+import com.taskmanagement.dto.SavedFilterRequest;
+import com.taskmanagement.dto.SavedFilterResponse;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.service.SavedFilterService;
+import com.taskmanagement.service.UserDetailsServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Saved filter controller for managing a user's saved task filters and reading their live views.
+ */
+@RestController
+@RequestMapping("/api/saved-filters")
+@CrossOrigin(origins = "*")
+@Tag(name = "Saved Filters", description = "Saved task filters with incrementally maintained views")
+public class SavedFilterController {
+
+    @Autowired
+    private SavedFilterService savedFilterService;
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsServiceImpl.UserPrincipal) {
+            UserDetailsServiceImpl.UserPrincipal userPrincipal = (UserDetailsServiceImpl.UserPrincipal) authentication.getPrincipal();
+            return userPrincipal.getId();
+        }
+        throw new UnauthorizedException("User not authenticated");
+    }
+
+    /**
+     * Save a filter for the current user.
+     *
+     * @param request the filter name and criteria
+     * @return the saved filter
+     */
+    @Operation(
+            summary = "Save a filter",
+            description = "Save task filter criteria and materialize its view. Membership changes are then pushed to /topic/saved-filters/{id}"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Filter saved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<SavedFilterResponse> createFilter(@Valid @RequestBody SavedFilterRequest request) {
+        return ResponseEntity.ok(savedFilterService.createFilter(request, getCurrentUserId()));
+    }
+
+    /**
+     * Get the current user's saved filters.
+     *
+     * @return list of saved filters
+     */
+    @Operation(summary = "Get my saved filters", description = "Retrieve the saved filters of the current user with their view sizes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saved filters retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @GetMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<SavedFilterResponse>> getFilters() {
+        return ResponseEntity.ok(savedFilterService.getFilters(getCurrentUserId()));
+    }
+
+    /**
+     * Get the task IDs currently matching a saved filter.
+     *
+     * @param id the saved filter ID
+     * @return the view, with every member listed in {@code added}
+     */
+    @Operation(
+            summary = "Get saved filter view",
+            description = "Retrieve the IDs of the tasks currently matching a saved filter, served from memory"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "View retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the filter owner"),
+            @ApiResponse(responseCode = "404", description = "Saved filter not found")
+    })
+    @GetMapping("/{id}/tasks")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<SavedFilterDelta> getView(@PathVariable Long id) {
+        return ResponseEntity.ok(savedFilterService.getView(id, getCurrentUserId()));
+    }
+
+    /**
+     * Delete a saved filter.
+     *
+     * @param id the saved filter ID
+     * @return success message
+     */
+    @Operation(summary = "Delete a saved filter", description = "Delete a saved filter owned by the current user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saved filter deleted successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the filter owner"),
+            @ApiResponse(responseCode = "404", description = "Saved filter not found")
+    })
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<String> deleteFilter(@PathVariable Long id) {
+        savedFilterService.deleteFilter(id, getCurrentUserId());
+        return ResponseEntity.ok("{\"message\": \"Saved filter deleted successfully\"}");
+    }
+}
@@ -1,14 +1,27 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.dto.AssigneeWorkload;
 import com.taskmanagement.dto.TaskCreateRequest;
+import com.taskmanagement.dto.TaskFilter;
+import com.taskmanagement.dto.TaskHistoryResponse;
+import com.taskmanagement.dto.TaskPageResponse;
 import com.taskmanagement.dto.TaskResponse;
+import com.taskmanagement.dto.TaskRevision;
+import com.taskmanagement.dto.TaskSearchResponse;
+import com.taskmanagement.dto.TaskStatsResponse;
 import com.taskmanagement.dto.TaskUpdateRequest;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.exception.EntityNotFoundException;
+import com.taskmanagement.exception.PreconditionFailedException;
 import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.repository.TaskFieldSet;
+import com.taskmanagement.service.TaskHistoryService;
+import com.taskmanagement.service.TaskSearchService;
 import com.taskmanagement.service.TaskService;
+import com.taskmanagement.service.TaskStatsService;
 import com.taskmanagement.service.UserDetailsServiceImpl;
+import com.taskmanagement.service.WorkloadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,13 +32,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -40,11 +58,56 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
-        @Autowired
-        private com.taskmanagement.service.CommentService commentService;
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private WorkloadService workloadService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
 
-                @Autowired
-                private com.taskmanagement.repository.UserRepository userRepository;
+    @Autowired
+    private TaskHistoryService taskHistoryService;
+
+    /**
+     * Build the ETag of a task from its version and comment version, as {@code "version.commentVersion"}.
+     * <p>
+     * The tag is strong, so clients can use it in {@code If-Match}. Gzip-encoded responses get their own
+     * strong tag from {@link com.taskmanagement.config.ETagCompressionFilter}, which also maps it back
+     * before requests reach this controller.
+     *
+     * @param revision the task revision
+     * @return the quoted strong ETag
+     */
+    private static String eTagOf(TaskRevision revision) {
+        return "\"" + revision.version() + "." + revision.commentVersion() + "\"";
+    }
+
+    /**
+     * Parse the version a client expects from an {@code If-Match} header. {@code If-Match} uses strong
+     * comparison, so a weak tag never matches. Only the edit version is compared: a comment added since
+     * the tag was read changes the task's comment summary, which a write does not touch, so it does not
+     * fail the precondition. A bare {@code "version"} is accepted as well.
+     *
+     * @param ifMatch the header value, may be null
+     * @return the expected version, or null when the header is absent or {@code *}
+     * @throws PreconditionFailedException if the header cannot match any version
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            String opaque = tag.substring(1, tag.length() - 1);
+            int dot = opaque.indexOf('.');
+            try {
+                return Long.parseLong(dot < 0 ? opaque : opaque.substring(0, dot));
+            } catch (NumberFormatException ignored) {}
+        }
+        throw new PreconditionFailedException("If-Match does not match the current task version");
+    }
 
     /**
      * Get current authenticated user ID from security context.
@@ -78,6 +141,10 @@ public class TaskController {
                             schema = @Schema(implementation = TaskResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not Modified - The If-None-Match ETag is still current"
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized - Authentication required",
@@ -95,10 +162,13 @@ public class TaskController {
     })
         @GetMapping
         @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-        public ResponseEntity<List<TaskResponse>> getAllTasks(
+        public ResponseEntity<?> getAllTasks(
                         @RequestParam(value = "status", required = false) String status,
                         @RequestParam(value = "assigneeId", required = false) Long assigneeId,
-                        @RequestParam(value = "unassigned", required = false, defaultValue = "false") boolean unassigned
+                        @RequestParam(value = "unassigned", required = false, defaultValue = "false") boolean unassigned,
+                        @Parameter(description = "Comma-separated task fields to return, e.g. id,title,status; all when omitted")
+                        @RequestParam(value = "fields", required = false) String fields,
+                        WebRequest request
         ) {
                 TaskStatus parsedStatus = null;
                 if (status != null && !status.isBlank()) {
@@ -109,11 +179,22 @@ public class TaskController {
                         }
                 }
 
+                TaskFieldSet fieldSet = TaskFieldSet.parse(fields);
+
+                // one aggregate query decides whether the list changed before it is loaded
+                String eTag = taskService.getTasksFilteredETag(parsedStatus, assigneeId, unassigned);
+                if (request.checkNotModified(eTag)) {
+                        return null;
+                }
+                if (fieldSet != null) {
+                        return ResponseEntity.ok().eTag(eTag)
+                                        .body(taskService.getTasksFiltered(parsedStatus, assigneeId, unassigned, fieldSet));
+                }
                 List<Task> tasks = taskService.getTasksFiltered(parsedStatus, assigneeId, unassigned);
                 List<TaskResponse> taskResponses = tasks.stream()
                                 .map(TaskResponse::new)
                                 .collect(Collectors.toList());
-                return ResponseEntity.ok(taskResponses);
+                return ResponseEntity.ok().eTag(eTag).body(taskResponses);
         }
 
     /**
@@ -149,6 +230,10 @@ public class TaskController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not Modified - The If-None-Match ETag is still current"
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized - Authentication required"
@@ -156,21 +241,32 @@ public class TaskController {
     })
         @GetMapping("/{id:[0-9]+}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-        public ResponseEntity<TaskResponse> getTaskById(@Parameter(description = "Task ID") @PathVariable Long id) {
+        public ResponseEntity<?> getTaskById(@Parameter(description = "Task ID") @PathVariable Long id,
+                                             @Parameter(description = "Comma-separated task fields to return, e.g. id,title,status; all when omitted")
+                                             @RequestParam(value = "fields", required = false) String fields,
+                                             WebRequest request) {
+                TaskFieldSet fieldSet = TaskFieldSet.parse(fields);
+                if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+                        TaskRevision revision = taskService.findRevision(id).orElse(null);
+                        if (revision != null && request.checkNotModified(eTagOf(revision))) {
+                                return null;
+                        }
+                }
+                if (fieldSet != null) {
+                        // the revision is always selected for the ETag, but the version only returned if asked for
+                        Map<String, Object> task = taskService.findFields(id, fieldSet.with("version", "commentVersion"))
+                                        .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+                        String eTag = eTagOf(new TaskRevision(((Number) task.get("version")).longValue(),
+                                        ((Number) task.remove("commentVersion")).longValue()));
+                        if (!fieldSet.contains("version")) {
+                                task.remove("version");
+                        }
+                        return ResponseEntity.ok().eTag(eTag).body(task);
+                }
                 Task task = taskService.findById(id)
                                 .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
-                // fetch comments for this task
-                java.util.List<com.taskmanagement.entity.Comment> comments = java.util.Collections.emptyList();
-                try {
-                        comments = commentService.getCommentsByTaskId(id);
-                } catch (Exception ignored) {}
-                        java.util.List<com.taskmanagement.dto.CommentResponse> commentResponses = comments.stream().map(c -> {
-                                com.taskmanagement.dto.CommentResponse cr = new com.taskmanagement.dto.CommentResponse(c);
-                                // attach username if available
-                                userRepository.findById(c.getAuthorId()).ifPresent(u -> cr.setAuthorUsername(u.getUsername()));
-                                return cr;
-                        }).collect(java.util.stream.Collectors.toList());
-                return ResponseEntity.ok(new TaskResponse(task, commentResponses));
+                // comments are paged separately; the response carries only their count and latest time
+                return ResponseEntity.ok().eTag(eTagOf(TaskRevision.of(task))).body(new TaskResponse(task));
         }
 
     /**
@@ -231,7 +327,7 @@ public class TaskController {
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskCreateRequest taskRequest) {
         Long currentUserId = getCurrentUserId();
         Task createdTask = taskService.createTask(taskRequest, currentUserId);
-        return ResponseEntity.ok(new TaskResponse(createdTask));
+        return ResponseEntity.ok().eTag(eTagOf(TaskRevision.of(createdTask))).body(new TaskResponse(createdTask));
     }
 
     /**
@@ -268,6 +364,10 @@ public class TaskController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Precondition Failed - The task changed since the If-Match ETag was read"
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "Forbidden - Not authorized to update this task",
@@ -291,10 +391,12 @@ public class TaskController {
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<TaskResponse> updateTask(
             @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the version being replaced; the update fails with 412 if the task has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskUpdateRequest taskRequest) {
         Long currentUserId = getCurrentUserId();
-        Task updatedTask = taskService.updateTask(id, taskRequest, currentUserId);
-        return ResponseEntity.ok(new TaskResponse(updatedTask));
+        Task updatedTask = taskService.updateTask(id, taskRequest, currentUserId, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTagOf(TaskRevision.of(updatedTask))).body(new TaskResponse(updatedTask));
     }
 
     /**
@@ -336,6 +438,10 @@ public class TaskController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Precondition Failed - The task changed since the If-Match ETag was read"
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "Forbidden - Not authorized to delete this task",
@@ -357,9 +463,12 @@ public class TaskController {
     })
         @DeleteMapping("/{id:[0-9]+}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<String> deleteTask(@Parameter(description = "Task ID") @PathVariable Long id) {
+    public ResponseEntity<String> deleteTask(
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the version being deleted; the delete fails with 412 if the task has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Long currentUserId = getCurrentUserId();
-        taskService.deleteTask(id, currentUserId);
+        taskService.deleteTask(id, currentUserId, expectedVersion(ifMatch));
         return ResponseEntity.ok("{\"message\": \"Task deleted successfully\"}");
     }
 
@@ -376,4 +485,188 @@ public class TaskController {
                 java.util.List<TaskResponse> resp = due.stream().map(TaskResponse::new).collect(java.util.stream.Collectors.toList());
                 return ResponseEntity.ok(resp);
         }
+
+    /**
+     * Get aggregated task statistics.
+     *
+     * @return task counts by status, priority and assignee
+     */
+    @Operation(
+            summary = "Get task statistics",
+            description = "Retrieve task counts broken down by status, priority and assignee"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStatsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Authentication required"
+            )
+    })
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskStatsResponse> getTaskStats() {
+        return ResponseEntity.ok(taskStatsService.getStats());
+    }
+
+    /**
+     * Get live workload counters per assignee.
+     *
+     * @param assigneeId optional assignee to restrict the result to
+     * @return task counts by status for each assignee
+     */
+    @Operation(
+            summary = "Get assignee workload",
+            description = "Retrieve live task counts by status for every assignee, or for a single assignee. " +
+                    "Changes are also pushed to STOMP subscribers of /topic/workload."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Workload retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AssigneeWorkload.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Authentication required"
+            )
+    })
+    @GetMapping("/workload")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<AssigneeWorkload>> getWorkload(
+            @RequestParam(value = "assigneeId", required = false) Long assigneeId) {
+        if (assigneeId != null) {
+            return ResponseEntity.ok(List.of(workloadService.getWorkload(assigneeId)));
+        }
+        return ResponseEntity.ok(workloadService.getAllWorkloads());
+    }
+
+    /**
+     * Full-text search over task titles, descriptions and comments.
+     *
+     * @param q the query text
+     * @param page zero-based page number
+     * @param size page size
+     * @return ranked page of matching tasks
+     */
+    @Operation(
+            summary = "Search tasks",
+            description = "Full-text search over task titles, descriptions and comments. " +
+                    "Results are ranked by relevance, with title matches weighted highest."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TaskSearchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Authentication required"
+            )
+    })
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @Parameter(description = "Search text") @RequestParam("q") String q,
+            @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(taskSearchService.search(q, safePage, safeSize));
+    }
+
+    /**
+     * Query tasks with a composable filter.
+     *
+     * @param filter the filter, sort order, cursor and page size
+     * @return one page of matching tasks
+     */
+    @Operation(
+            summary = "Query tasks",
+            description = "Filter tasks by status, priority, creator and assignee sets, due-date and updated-at " +
+                    "ranges and text. Results are sorted and paginated by keyset: pass the returned nextCursor " +
+                    "as 'after' to fetch the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tasks retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TaskPageResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter or cursor"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Authentication required"
+            )
+    })
+    @PostMapping("/query")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskPageResponse> queryTasks(@Valid @RequestBody TaskFilter filter) {
+        return ResponseEntity.ok(taskService.queryTasks(filter));
+    }
+
+    /**
+     * Reconstruct a task from its history.
+     *
+     * @param id the task ID
+     * @param at point in time to reconstruct, defaults to now
+     * @param version exact version to reconstruct, takes precedence over {@code at}
+     * @return the task state at that point
+     */
+    @Operation(
+            summary = "Get task history state",
+            description = "Reconstruct a task as it was at a point in time, or at an exact version, from its " +
+                    "append-only change history. Deleted tasks remain readable."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task state reconstructed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TaskHistoryResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task had no recorded history at that point"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Authentication required"
+            )
+    })
+    @GetMapping("/{id:[0-9]+}/history")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskHistoryResponse> getTaskHistory(
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "Point in time, ISO-8601")
+            @RequestParam(value = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @Parameter(description = "Exact history version")
+            @RequestParam(value = "version", required = false) Long version) {
+        if (version != null) {
+            return ResponseEntity.ok(taskHistoryService.getStateAtVersion(id, version));
+        }
+        return ResponseEntity.ok(taskHistoryService.getStateAt(id, at != null ? at : LocalDateTime.now()));
+    }
 }
@@ -1,8 +1,11 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.UserResponse;
+import com.taskmanagement.dto.UserSuggestion;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.service.UserService;
+import com.taskmanagement.service.UserTypeaheadService;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -29,6 +32,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserTypeaheadService userTypeaheadService;
+
     /**
      * Get all users.
      *
@@ -61,4 +67,38 @@ public class UserController {
                 .collect(Collectors.toList());
         return ResponseEntity.ok(userResponses);
     }
+
+    /**
+     * Suggest users by username prefix.
+     *
+     * @param q the typed prefix
+     * @param limit maximum number of suggestions
+     * @return matching users with ID and username only
+     */
+    @Operation(
+            summary = "Username typeahead",
+            description = "Return up to `limit` users whose username starts with `q` (case-insensitive). " +
+                    "Only ID and username are included so the endpoint can be called on every keystroke."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Suggestions retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UserSuggestion.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Authentication required"
+            )
+    })
+    @GetMapping("/typeahead")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<UserSuggestion>> typeahead(
+            @Parameter(description = "Username prefix") @RequestParam(value = "q", required = false, defaultValue = "") String q,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(value = "limit", required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userTypeaheadService.suggest(q, limit));
+    }
 }
@@ -0,0 +1,45 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset-paginated page of an activity feed.
+ */
+@Schema(description = "A newest-first page of activities with a cursor for the next page")
+public class ActivityPageResponse {
+
+    @Schema(description = "Activities on this page")
+    private List<ActivityResponse> items;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next page, null on the last page")
+    private String nextCursor;
+
+    public ActivityPageResponse() {}
+
+    public ActivityPageResponse(List<ActivityResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ActivityResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ActivityResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
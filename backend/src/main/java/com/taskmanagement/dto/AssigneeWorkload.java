@@ -0,0 +1,59 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DTO describing the live workload of a single assignee. Also used as the payload of
+ * {@code /topic/workload} STOMP messages.
+ */
+@Schema(description = "Task counts per status for one assignee")
+public class AssigneeWorkload {
+
+    @Schema(description = "Assignee ID", example = "2")
+    private Long assigneeId;
+
+    @Schema(description = "Task counts per status")
+    private Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+
+    @Schema(description = "Number of tasks that are not DONE", example = "4")
+    private long open;
+
+    public AssigneeWorkload() {}
+
+    public AssigneeWorkload(Long assigneeId, Map<TaskStatus, Long> byStatus) {
+        this.assigneeId = assigneeId;
+        this.byStatus = byStatus;
+        this.open = byStatus.entrySet().stream()
+                .filter(e -> e.getKey() != TaskStatus.DONE)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<TaskStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public long getOpen() {
+        return open;
+    }
+
+    public void setOpen(long open) {
+        this.open = open;
+    }
+}
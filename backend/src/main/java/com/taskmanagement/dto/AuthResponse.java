@@ -11,6 +11,9 @@ public class AuthResponse {
     @Schema(description = "JWT access token", example = "eyJhbGciOiJIUzUxMiJ9...")
     private String token;
     
+    @Schema(description = "Refresh token, exchanged at /api/auth/refresh for a new token pair", example = "h3Yx0c2Jm9l...")
+    private String refreshToken;
+
     @Schema(description = "Token type", example = "Bearer")
     private String type = "Bearer";
     
@@ -46,6 +49,14 @@ public class AuthResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public String getType() {
         return type;
     }
@@ -0,0 +1,45 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset-paginated page of a task's comments.
+ */
+@Schema(description = "An oldest-first page of comments with a cursor for the next page")
+public class CommentPageResponse {
+
+    @Schema(description = "Comments on this page")
+    private List<CommentResponse> items;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next page, null on the last page")
+    private String nextCursor;
+
+    public CommentPageResponse() {}
+
+    public CommentPageResponse(List<CommentResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CommentResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CommentResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskmanagement.dto;
+
+import java.util.List;
+
+/**
+ * Membership change of a saved filter's view, sent to {@code /topic/saved-filters/{filterId}}.
+ * When returned from the view endpoint, {@code added} holds the full current membership.
+ */
+public class SavedFilterDelta {
+    private Long filterId;
+    private List<Long> added;
+    private List<Long> removed;
+
+    public SavedFilterDelta() {}
+
+    public SavedFilterDelta(Long filterId, List<Long> added, List<Long> removed) {
+        this.filterId = filterId;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    public Long getFilterId() { return filterId; }
+    public void setFilterId(Long filterId) { this.filterId = filterId; }
+
+    public List<Long> getAdded() { return added; }
+    public void setAdded(List<Long> added) { this.added = added; }
+
+    public List<Long> getRemoved() { return removed; }
+    public void setRemoved(List<Long> removed) { this.removed = removed; }
+}
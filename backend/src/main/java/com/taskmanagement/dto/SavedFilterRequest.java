@@ -0,0 +1,23 @@
+package com.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class SavedFilterRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name;
+
+    @NotNull(message = "Filter is required")
+    private TaskFilter filter;
+
+    public SavedFilterRequest() {}
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public TaskFilter getFilter() { return filter; }
+    public void setFilter(TaskFilter filter) { this.filter = filter; }
+}
@@ -0,0 +1,41 @@
+package com.taskmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public class SavedFilterResponse {
+    private Long id;
+    private Long ownerId;
+    private String name;
+    private TaskFilter filter;
+    private int size;
+    private LocalDateTime createdAt;
+
+    public SavedFilterResponse() {}
+
+    public SavedFilterResponse(Long id, Long ownerId, String name, TaskFilter filter, int size, LocalDateTime createdAt) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.name = name;
+        this.filter = filter;
+        this.size = size;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getOwnerId() { return ownerId; }
+    public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public TaskFilter getFilter() { return filter; }
+    public void setFilter(TaskFilter filter) { this.filter = filter; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,5 +1,9 @@
 package com.taskmanagement.dto;
 
+import com.taskmanagement.activity.TaskDiff;
+
+import java.util.List;
+
 /**
  * Represents a task event sent over WebSocket to clients.
  */
@@ -7,6 +11,8 @@ public class TaskEvent {
     private String action; // CREATED | UPDATED | DELETED
     private TaskResponse task;
     private Long taskId; // used for delete events when full task not available
+    private Long actorId;
+    private List<TaskDiff.Change> changes; // field-level changes of UPDATED events
 
     public TaskEvent() {}
 
@@ -44,4 +50,20 @@ public class TaskEvent {
     public void setTaskId(Long taskId) {
         this.taskId = taskId;
     }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public List<TaskDiff.Change> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<TaskDiff.Change> changes) {
+        this.changes = changes;
+    }
 }
@@ -0,0 +1,202 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Composable task filter. Every criterion is optional; criteria that are set are combined with AND,
+ * values inside a set criterion are combined with OR.
+ */
+@Schema(description = "Composable task filter with sorting and keyset pagination")
+public class TaskFilter {
+
+    /**
+     * Columns a filtered task list can be ordered by. Ties are always broken by task ID.
+     */
+    public enum SortField {
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt"),
+        ID("id");
+
+        private final String attribute;
+
+        SortField(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+    }
+
+    /**
+     * Sort direction.
+     */
+    public enum Direction {
+        ASC,
+        DESC
+    }
+
+    @Schema(description = "Match any of these statuses", example = "[\"TODO\", \"IN_PROGRESS\"]")
+    private Set<TaskStatus> statuses;
+
+    @Schema(description = "Match any of these priorities", example = "[\"HIGH\"]")
+    private Set<Priority> priorities;
+
+    @Schema(description = "Match tasks created by any of these users", example = "[1]")
+    private Set<Long> creatorIds;
+
+    @Schema(description = "Match tasks assigned to any of these users", example = "[2, 3]")
+    private Set<Long> assigneeIds;
+
+    @Schema(description = "Also match unassigned tasks (alone: only unassigned tasks)", example = "false")
+    private boolean unassigned;
+
+    @Schema(description = "Due date lower bound (inclusive)", example = "2023-01-01T00:00:00")
+    private LocalDateTime dueFrom;
+
+    @Schema(description = "Due date upper bound (inclusive)", example = "2023-01-31T23:59:59")
+    private LocalDateTime dueTo;
+
+    @Schema(description = "Last update lower bound (inclusive)", example = "2023-01-01T00:00:00")
+    private LocalDateTime updatedFrom;
+
+    @Schema(description = "Last update upper bound (inclusive)", example = "2023-01-31T23:59:59")
+    private LocalDateTime updatedTo;
+
+    @Schema(description = "Case-insensitive text contained in the title or description", example = "auth")
+    private String text;
+
+    @NotNull(message = "Sort is required")
+    @Schema(description = "Sort column", example = "UPDATED_AT")
+    private SortField sort = SortField.UPDATED_AT;
+
+    @NotNull(message = "Direction is required")
+    @Schema(description = "Sort direction", example = "DESC")
+    private Direction direction = Direction.DESC;
+
+    @Schema(description = "Opaque cursor from a previous page's nextCursor, valid only with the same sort and direction")
+    private String after;
+
+    @Schema(description = "Page size (1-200)", example = "50")
+    private int limit = 50;
+
+    public TaskFilter() {}
+
+    public Set<TaskStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Set<TaskStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Set<Priority> getPriorities() {
+        return priorities;
+    }
+
+    public void setPriorities(Set<Priority> priorities) {
+        this.priorities = priorities;
+    }
+
+    public Set<Long> getCreatorIds() {
+        return creatorIds;
+    }
+
+    public void setCreatorIds(Set<Long> creatorIds) {
+        this.creatorIds = creatorIds;
+    }
+
+    public Set<Long> getAssigneeIds() {
+        return assigneeIds;
+    }
+
+    public void setAssigneeIds(Set<Long> assigneeIds) {
+        this.assigneeIds = assigneeIds;
+    }
+
+    public boolean isUnassigned() {
+        return unassigned;
+    }
+
+    public void setUnassigned(boolean unassigned) {
+        this.unassigned = unassigned;
+    }
+
+    public LocalDateTime getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDateTime dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDateTime getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDateTime dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public LocalDateTime getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    public void setUpdatedFrom(LocalDateTime updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    public LocalDateTime getUpdatedTo() {
+        return updatedTo;
+    }
+
+    public void setUpdatedTo(LocalDateTime updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public SortField getSort() {
+        return sort;
+    }
+
+    public void setSort(SortField sort) {
+        this.sort = sort;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public void setDirection(Direction direction) {
+        this.direction = direction;
+    }
+
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.history.TaskState;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a task reconstructed at one version of its history.
+ */
+@Schema(description = "Task state reconstructed from its history")
+public class TaskHistoryResponse {
+
+    @Schema(description = "Task ID", example = "1")
+    private Long taskId;
+
+    @Schema(description = "History version the state corresponds to", example = "12")
+    private long version;
+
+    @Schema(description = "Time the version was recorded", example = "2023-01-01T10:30:00")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "ID of the user who made the change", example = "2")
+    private Long changedBy;
+
+    @Schema(description = "Task fields at this version")
+    private TaskState state;
+
+    public TaskHistoryResponse() {}
+
+    public TaskHistoryResponse(Long taskId, long version, LocalDateTime changedAt, Long changedBy, TaskState state) {
+        this.taskId = taskId;
+        this.version = version;
+        this.changedAt = changedAt;
+        this.changedBy = changedBy;
+        this.state = state;
+    }
+
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+
+    public Long getChangedBy() { return changedBy; }
+    public void setChangedBy(Long changedBy) { this.changedBy = changedBy; }
+
+    public TaskState getState() { return state; }
+    public void setState(TaskState state) { this.state = state; }
+}
@@ -0,0 +1,45 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset-paginated page of tasks.
+ */
+@Schema(description = "A page of tasks with a cursor for the next page")
+public class TaskPageResponse {
+
+    @Schema(description = "Tasks on this page")
+    private List<TaskResponse> items;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next page, null on the last page")
+    private String nextCursor;
+
+    public TaskPageResponse() {}
+
+    public TaskPageResponse(List<TaskResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TaskResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TaskResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
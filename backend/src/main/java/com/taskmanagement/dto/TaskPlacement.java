@@ -0,0 +1,18 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.TaskStatus;
+
+/**
+ * The fields that decide which status, priority and assignee counters a task counts towards.
+ */
+public record TaskPlacement(Long taskId, TaskStatus status, Priority priority, Long assigneeId) {
+
+    /**
+     * @param task a task as carried by an outbox payload
+     * @return the task's placement
+     */
+    public static TaskPlacement of(TaskResponse task) {
+        return new TaskPlacement(task.getId(), task.getStatus(), task.getPriority(), task.getAssigneeId());
+    }
+}
@@ -3,7 +3,6 @@ package com.taskmanagement.dto;
 import com.taskmanagement.entity.Priority;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.TaskStatus;
-import com.taskmanagement.dto.CommentResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -42,7 +41,15 @@ public class TaskResponse {
     private LocalDateTime updatedAt;
     @Schema(description = "Task due date/time", example = "2023-01-02T15:00:00")
     private LocalDateTime dueDate;
-    private java.util.List<CommentResponse> comments;
+
+    @Schema(description = "Version of the task, also sent as its ETag", example = "4")
+    private long version;
+
+    @Schema(description = "Number of comments on this task", example = "3")
+    private int commentCount;
+
+    @Schema(description = "Timestamp of the newest comment, null if there are none", example = "2023-01-01T11:00:00")
+    private LocalDateTime lastCommentAt;
 
     // Constructors
     public TaskResponse() {}
@@ -58,12 +65,9 @@ public class TaskResponse {
         this.createdAt = task.getCreatedAt();
         this.updatedAt = task.getUpdatedAt();
     this.dueDate = task.getDueDate();
-        this.comments = java.util.Collections.emptyList();
-    }
-
-    public TaskResponse(Task task, java.util.List<CommentResponse> comments) {
-        this(task);
-        this.comments = comments == null ? java.util.Collections.emptyList() : comments;
+        this.version = task.getVersion();
+        this.commentCount = task.getCommentCount();
+        this.lastCommentAt = task.getLastCommentAt();
     }
 
     public TaskResponse(Long id, String title, String description, TaskStatus status, Priority priority, 
@@ -159,4 +163,28 @@ public class TaskResponse {
     public void setDueDate(LocalDateTime dueDate) {
         this.dueDate = dueDate;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getLastCommentAt() {
+        return lastCommentAt;
+    }
+
+    public void setLastCommentAt(LocalDateTime lastCommentAt) {
+        this.lastCommentAt = lastCommentAt;
+    }
 }
@@ -0,0 +1,17 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.Task;
+
+/**
+ * The counters that identify one representation of a task: its edit version and its comment version.
+ */
+public record TaskRevision(long version, long commentVersion) {
+
+    /**
+     * @param task a loaded task
+     * @return the task's revision
+     */
+    public static TaskRevision of(Task task) {
+        return new TaskRevision(task.getVersion(), task.getCommentVersion());
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for a page of ranked task search results.
+ */
+@Schema(description = "Ranked, paginated task search results")
+public class TaskSearchResponse {
+
+    @Schema(description = "The query that was run", example = "authentication")
+    private String query;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    private int page;
+
+    @Schema(description = "Page size", example = "20")
+    private int size;
+
+    @Schema(description = "Total number of matching tasks", example = "3")
+    private long total;
+
+    @Schema(description = "Matching tasks, best match first")
+    private List<Hit> results;
+
+    public TaskSearchResponse() {}
+
+    public TaskSearchResponse(String query, int page, int size, long total, List<Hit> results) {
+        this.query = query;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.results = results;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<Hit> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Hit> results) {
+        this.results = results;
+    }
+
+    /**
+     * A single search result.
+     */
+    @Schema(description = "A matching task and its relevance score")
+    public static class Hit {
+
+        @Schema(description = "Relevance score, higher is better", example = "2.71")
+        private double score;
+
+        @Schema(description = "The matching task")
+        private TaskResponse task;
+
+        public Hit() {}
+
+        public Hit(double score, TaskResponse task) {
+            this.score = score;
+            this.task = task;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public TaskResponse getTask() {
+            return task;
+        }
+
+        public void setTask(TaskResponse task) {
+            this.task = task;
+        }
+    }
+}
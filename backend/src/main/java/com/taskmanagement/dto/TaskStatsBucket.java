@@ -0,0 +1,65 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * One cell of the status × priority × assignee task breakdown.
+ */
+@Schema(description = "Number of tasks sharing a status, priority and assignee")
+public class TaskStatsBucket {
+
+    @Schema(description = "Task status", example = "TODO")
+    private TaskStatus status;
+
+    @Schema(description = "Task priority", example = "HIGH")
+    private Priority priority;
+
+    @Schema(description = "Assignee ID, null for unassigned tasks", example = "2")
+    private Long assigneeId;
+
+    @Schema(description = "Number of tasks in this bucket", example = "3")
+    private long count;
+
+    public TaskStatsBucket() {}
+
+    public TaskStatsBucket(TaskStatus status, Priority priority, Long assigneeId, long count) {
+        this.status = status;
+        this.priority = priority;
+        this.assigneeId = assigneeId;
+        this.count = count;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
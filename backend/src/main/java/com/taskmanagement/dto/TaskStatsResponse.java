@@ -0,0 +1,99 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DTO for the aggregated task statistics endpoint.
+ */
+@Schema(description = "Task counts broken down by status, priority and assignee")
+public class TaskStatsResponse {
+
+    /** Key used in {@link #byAssignee} for tasks without an assignee. */
+    public static final String UNASSIGNED = "unassigned";
+
+    @Schema(description = "Total number of tasks", example = "42")
+    private long total;
+
+    @Schema(description = "Task counts per status")
+    private Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+
+    @Schema(description = "Task counts per priority")
+    private Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+
+    @Schema(description = "Task counts per assignee ID; unassigned tasks are keyed as \"unassigned\"")
+    private Map<String, Long> byAssignee = new TreeMap<>();
+
+    @Schema(description = "Full status × priority × assignee breakdown")
+    private List<TaskStatsBucket> buckets;
+
+    public TaskStatsResponse() {}
+
+    /**
+     * Build the response by rolling up the given buckets into per-dimension totals.
+     *
+     * @param buckets the non-empty status × priority × assignee cells
+     */
+    public TaskStatsResponse(List<TaskStatsBucket> buckets) {
+        this.buckets = buckets;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        for (TaskStatsBucket bucket : buckets) {
+            total += bucket.getCount();
+            byStatus.merge(bucket.getStatus(), bucket.getCount(), Long::sum);
+            byPriority.merge(bucket.getPriority(), bucket.getCount(), Long::sum);
+            String assignee = bucket.getAssigneeId() != null ? bucket.getAssigneeId().toString() : UNASSIGNED;
+            byAssignee.merge(assignee, bucket.getCount(), Long::sum);
+        }
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<TaskStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<Priority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<Priority, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    public Map<String, Long> getByAssignee() {
+        return byAssignee;
+    }
+
+    public void setByAssignee(Map<String, Long> byAssignee) {
+        this.byAssignee = byAssignee;
+    }
+
+    public List<TaskStatsBucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<TaskStatsBucket> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Minimal user payload returned by the username typeahead.
+ */
+@Schema(description = "Username suggestion for assignee pickers")
+public class UserSuggestion {
+
+    @Schema(description = "User ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Username", example = "johndoe")
+    private String username;
+
+    public UserSuggestion() {}
+
+    public UserSuggestion(Long id, String username) {
+        this.id = id;
+        this.username = username;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+}
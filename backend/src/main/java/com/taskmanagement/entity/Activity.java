@@ -7,7 +7,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "activities")
+@Table(name = "activities", indexes = {
+        @Index(name = "idx_activities_task_created", columnList = "task_id, created_at, id"),
+        @Index(name = "idx_activities_actor_created", columnList = "actor_id, created_at, id"),
+        @Index(name = "idx_activities_created", columnList = "created_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_activities_source_event", columnNames = {"source_event_id", "type"})
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Activity {
 
@@ -31,6 +37,10 @@ public class Activity {
     @Column(columnDefinition = "TEXT")
     private String detail;
 
+    /** Outbox event this activity was derived from; null for activities recorded directly. */
+    @Column(name = "source_event_id")
+    private Long sourceEventId;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -63,6 +73,9 @@ public class Activity {
     public String getDetail() { return detail; }
     public void setDetail(String detail) { this.detail = detail; }
 
+    public Long getSourceEventId() { return sourceEventId; }
+    public void setSourceEventId(Long sourceEventId) { this.sourceEventId = sourceEventId; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
@@ -0,0 +1,56 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archived activities of one task: a gzip-compressed block of JSON lines, oldest first. Retention tops
+ * up a task's newest chunk and starts a new one once it is full.
+ */
+@Entity
+@Table(name = "activity_archive", indexes = {
+        @Index(name = "idx_activity_archive_task", columnList = "task_id, id")
+})
+public class ActivityArchiveChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "activity_count", nullable = false)
+    private int activityCount;
+
+    @Column(nullable = false, length = 16 * 1024 * 1024)
+    private byte[] data;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public ActivityArchiveChunk() {}
+
+    public ActivityArchiveChunk(Long taskId, int activityCount, byte[] data) {
+        this.taskId = taskId;
+        this.activityCount = activityCount;
+        this.data = data;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+    public int getActivityCount() { return activityCount; }
+    public void setActivityCount(int activityCount) { this.activityCount = activityCount; }
+
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
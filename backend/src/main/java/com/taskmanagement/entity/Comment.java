@@ -8,7 +8,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_task_created", columnList = "task_id, created_at, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class Comment {
 
@@ -38,6 +38,19 @@ public class Comment {
         this.authorId = authorId;
     }
 
+    /**
+     * Copy constructor producing a detached snapshot of the given comment.
+     *
+     * @param source the comment to copy
+     */
+    public Comment(Comment source) {
+        this.id = source.id;
+        this.content = source.content;
+        this.taskId = source.taskId;
+        this.authorId = source.authorId;
+        this.createdAt = source.createdAt;
+    }
+
     public Long getId() {
         return id;
     }
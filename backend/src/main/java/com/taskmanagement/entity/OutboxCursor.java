@@ -0,0 +1,41 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Delivery position of one outbox sink: the ID of the last event it has processed. Per-instance sinks
+ * have one row per instance, named {@code <sink>@<instance-id>}.
+ */
+@Entity
+@Table(name = "outbox_cursors")
+public class OutboxCursor {
+
+    @Id
+    @Column(length = 100)
+    private String sink;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public OutboxCursor() {}
+
+    public OutboxCursor(String sink, Long lastEventId) {
+        this.sink = sink;
+        this.lastEventId = lastEventId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getSink() { return sink; }
+    public void setSink(String sink) { this.sink = sink; }
+
+    public Long getLastEventId() { return lastEventId; }
+    public void setLastEventId(Long lastEventId) { this.lastEventId = lastEventId; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,7 +15,14 @@ import java.time.LocalDateTime;
  * Task entity for the task management system.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_status", columnList = "status"),
+        @Index(name = "idx_tasks_assignee_status", columnList = "assignee_id, status"),
+        @Index(name = "idx_tasks_creator", columnList = "creator_id"),
+        @Index(name = "idx_tasks_updated_at", columnList = "updated_at, id"),
+        @Index(name = "idx_tasks_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Task {
 
@@ -59,6 +67,29 @@ public class Task {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
+    /** Optimistic lock version, incremented by every edit and matched against {@code If-Match}. */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    /** Number of comments, maintained by {@link com.taskmanagement.service.CommentService} with bulk updates. */
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private int commentCount;
+
+    /** Creation time of the newest comment, maintained alongside {@link #commentCount}. */
+    @Column(name = "last_comment_at", insertable = false, updatable = false)
+    private LocalDateTime lastCommentAt;
+
+    /**
+     * Incremented whenever {@link #commentCount} or {@link #lastCommentAt} change. Kept apart from
+     * {@link #version} so that commenting changes the ETag without failing the next conditional edit.
+     */
+    @ColumnDefault("0")
+    @Column(name = "comment_version", nullable = false, insertable = false, updatable = false)
+    private long commentVersion;
+
     // Constructors
     public Task() {}
 
@@ -71,6 +102,28 @@ public class Task {
         this.creatorId = creatorId;
     }
 
+    /**
+     * Copy constructor producing a detached snapshot of the given task.
+     *
+     * @param source the task to copy
+     */
+    public Task(Task source) {
+        this.id = source.id;
+        this.title = source.title;
+        this.description = source.description;
+        this.status = source.status;
+        this.priority = source.priority;
+        this.assigneeId = source.assigneeId;
+        this.creatorId = source.creatorId;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.dueDate = source.dueDate;
+        this.commentCount = source.commentCount;
+        this.lastCommentAt = source.lastCommentAt;
+        this.commentVersion = source.commentVersion;
+        this.version = source.version;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -152,6 +205,38 @@ public class Task {
         this.dueDate = dueDate;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getLastCommentAt() {
+        return lastCommentAt;
+    }
+
+    public void setLastCommentAt(LocalDateTime lastCommentAt) {
+        this.lastCommentAt = lastCommentAt;
+    }
+
+    public long getCommentVersion() {
+        return commentVersion;
+    }
+
+    public void setCommentVersion(long commentVersion) {
+        this.commentVersion = commentVersion;
+    }
+
     @PrePersist
     protected void onCreate() {
         LocalDateTime now = LocalDateTime.now();
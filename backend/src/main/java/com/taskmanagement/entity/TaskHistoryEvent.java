@@ -0,0 +1,75 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a task's append-only history. Versions are numbered from 1 per task with no gaps;
+ * {@code changes} holds a JSON object with the new value of every field the change touched.
+ */
+@Entity
+@Table(name = "task_history_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_history_task_version", columnNames = {"task_id", "version"}),
+        indexes = @Index(name = "idx_task_history_task_occurred", columnList = "task_id, occurred_at"))
+public class TaskHistoryEvent {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String changes;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public TaskHistoryEvent() {}
+
+    public TaskHistoryEvent(Long taskId, long version, String eventType, String changes, Long actorId,
+                            LocalDateTime occurredAt) {
+        this.taskId = taskId;
+        this.version = version;
+        this.eventType = eventType;
+        this.changes = changes;
+        this.actorId = actorId;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getChanges() { return changes; }
+    public void setChanges(String changes) { this.changes = changes; }
+
+    public Long getActorId() { return actorId; }
+    public void setActorId(Long actorId) { this.actorId = actorId; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
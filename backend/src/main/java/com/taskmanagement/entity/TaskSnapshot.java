@@ -0,0 +1,55 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The full state of a task at one version of its history, stored as JSON so that reconstruction
+ * only has to replay the events recorded after it.
+ */
+@Entity
+@Table(name = "task_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_snapshots_task_version", columnNames = {"task_id", "version"}))
+public class TaskSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String state;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public TaskSnapshot() {}
+
+    public TaskSnapshot(Long taskId, long version, String state, LocalDateTime occurredAt) {
+        this.taskId = taskId;
+        this.version = version;
+        this.state = state;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.entity.Activity;
+
+/**
+ * Application event published by {@link com.taskmanagement.service.ActivityService} when an activity
+ * is recorded directly rather than derived from a task or comment change.
+ */
+public class ActivityCreatedEvent {
+
+    private final Activity activity;
+
+    /**
+     * @param activity the saved activity, with its ID assigned
+     */
+    public ActivityCreatedEvent(Activity activity) {
+        this.activity = activity;
+    }
+
+    public Activity getActivity() {
+        return activity;
+    }
+}
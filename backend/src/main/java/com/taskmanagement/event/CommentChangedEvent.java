@@ -0,0 +1,49 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.entity.Comment;
+
+/**
+ * Application event published by {@link com.taskmanagement.service.CommentService} whenever a comment
+ * is created, updated or deleted.
+ */
+public class CommentChangedEvent {
+
+    private final Comment previous;
+    private final Comment current;
+    private final Long actorId;
+
+    /**
+     * @param previous snapshot of the comment before the change, or null when it was created
+     * @param current snapshot of the comment after the change, or null when it was deleted
+     * @param actorId the ID of the user who made the change
+     */
+    public CommentChangedEvent(Comment previous, Comment current, Long actorId) {
+        this.previous = previous;
+        this.current = current;
+        this.actorId = actorId;
+    }
+
+    public Comment getPrevious() {
+        return previous;
+    }
+
+    public Comment getCurrent() {
+        return current;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public Long getTaskId() {
+        return current != null ? current.getTaskId() : previous.getTaskId();
+    }
+
+    public boolean isCreated() {
+        return previous == null;
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
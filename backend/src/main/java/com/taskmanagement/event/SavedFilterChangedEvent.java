@@ -0,0 +1,30 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.dto.SavedFilterResponse;
+
+/**
+ * Application event published by {@link com.taskmanagement.service.SavedFilterService} when a saved
+ * filter is created or deleted, so that every instance can materialize or drop its view.
+ */
+public class SavedFilterChangedEvent {
+
+    private final SavedFilterResponse filter;
+    private final boolean deleted;
+
+    /**
+     * @param filter the saved filter
+     * @param deleted true if the filter was deleted, false if it was created
+     */
+    public SavedFilterChangedEvent(SavedFilterResponse filter, boolean deleted) {
+        this.filter = filter;
+        this.deleted = deleted;
+    }
+
+    public SavedFilterResponse getFilter() {
+        return filter;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.entity.Task;
+
+/**
+ * Application event published by {@link com.taskmanagement.service.TaskService} whenever a task is
+ * created, updated or deleted. Carries detached snapshots of the task before and after the change so
+ * listeners can compute deltas without re-reading the database.
+ */
+public class TaskChangedEvent {
+
+    private final Task previous;
+    private final Task current;
+    private final Long actorId;
+
+    /**
+     * @param previous snapshot of the task before the change, or null when the task was created
+     * @param current snapshot of the task after the change, or null when the task was deleted
+     * @param actorId the ID of the user who made the change
+     */
+    public TaskChangedEvent(Task previous, Task current, Long actorId) {
+        this.previous = previous;
+        this.current = current;
+        this.actorId = actorId;
+    }
+
+    public Task getPrevious() {
+        return previous;
+    }
+
+    public Task getCurrent() {
+        return current;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public Long getTaskId() {
+        return current != null ? current.getId() : previous.getId();
+    }
+
+    public boolean isCreated() {
+        return previous == null;
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.event;
+
+/**
+ * Application event published by {@link com.taskmanagement.service.UserService} after a user account
+ * has been created.
+ */
+public class UserCreatedEvent {
+
+    private final Long userId;
+    private final String username;
+
+    public UserCreatedEvent(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskmanagement.exception;
+
+/**
+ * Exception thrown when a conditional request's precondition, such as {@code If-Match}, does not hold.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Constructs a new PreconditionFailedException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
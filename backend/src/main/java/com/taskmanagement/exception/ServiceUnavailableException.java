@@ -0,0 +1,25 @@
+package com.taskmanagement.exception;
+
+/**
+ * Exception thrown when a request is shed because the server is at capacity. Clients should retry
+ * after {@link #getRetryAfterSeconds()}.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new ServiceUnavailableException with the specified detail message.
+     *
+     * @param message the detail message
+     * @param retryAfterSeconds suggested delay before retrying
+     */
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanagement.history;
+
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * The versioned fields of a task. Serialized in full for snapshots; history events carry only the
+ * properties they change and are merged onto a state in version order.
+ */
+@Schema(description = "State of a task at one version of its history")
+public class TaskState {
+
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private Priority priority;
+    private Long assigneeId;
+    private Long creatorId;
+    private LocalDateTime dueDate;
+
+    @Schema(description = "Whether the task had been deleted at this version", example = "false")
+    private boolean deleted;
+
+    public TaskState() {}
+
+    public static TaskState of(Task task) {
+        TaskState state = new TaskState();
+        state.title = task.getTitle();
+        state.description = task.getDescription();
+        state.status = task.getStatus();
+        state.priority = task.getPriority();
+        state.assigneeId = task.getAssigneeId();
+        state.creatorId = task.getCreatorId();
+        state.dueDate = task.getDueDate();
+        return state;
+    }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+
+    public Priority getPriority() { return priority; }
+    public void setPriority(Priority priority) { this.priority = priority; }
+
+    public Long getAssigneeId() { return assigneeId; }
+    public void setAssigneeId(Long assigneeId) { this.assigneeId = assigneeId; }
+
+    public Long getCreatorId() { return creatorId; }
+    public void setCreatorId(Long creatorId) { this.creatorId = creatorId; }
+
+    public LocalDateTime getDueDate() { return dueDate; }
+    public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; }
+
+    public boolean isDeleted() { return deleted; }
+    public void setDeleted(boolean deleted) { this.deleted = deleted; }
+}
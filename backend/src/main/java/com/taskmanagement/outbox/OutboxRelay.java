@@ -0,0 +1,330 @@
+package com.taskmanagement.outbox;
+
+import com.taskmanagement.entity.OutboxCursor;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.repository.OutboxCursorRepository;
+import com.taskmanagement.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Background relay draining the outbox to every {@link OutboxSink}.
+ * <p>
+ * Each sink is fed batches in event-ID order starting after its persisted cursor, and the cursor is
+ * advanced only after the sink accepted the batch, giving at-least-once, ordered delivery per sink.
+ * A failing sink is retried with exponential backoff without holding up the others.
+ * <p>
+ * Shared sinks are fed inside a transaction that locks their cursor row, so with several instances
+ * only one delivers a given batch and the cursor is always read fresh. Per-instance sinks keep a cursor
+ * row per instance ({@code <sink>@<instance-id>}), refreshed on every prune run; rows of instances that
+ * stopped refreshing for {@code outbox.relay.instance-timeout-ms} are dropped. Events are pruned up to
+ * the lowest cursor of any sink on any live instance.
+ * <p>
+ * A per-instance sink that {@linkplain OutboxSink#loadsState() loads state} starts its cursor not at the
+ * live end but at the last event older than the gap timeout, then loads. Events after the cursor that
+ * commit during or after the load are delivered on top of it, so only a transaction holding an outbox
+ * ID for longer than the gap timeout, and committing after the load, can be missed.
+ * <p>
+ * IDs are assigned at insert but become visible at commit, so a lower ID can appear after a higher
+ * one. The relay therefore stops in front of a gap in the ID sequence. Once the gap is older than
+ * {@code outbox.relay.gap-timeout-ms}, the relay inserts a {@link OutboxEvent#GAP} placeholder with the
+ * missing ID: the insert waits for the original transaction, and only succeeds if it rolled back. If the
+ * original commits instead, the insert fails as a duplicate and the real event is delivered.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final long INITIAL_BACKOFF_MS = 250;
+
+    private static final String INSTANCE_SEPARATOR = "@";
+
+    private static final String INSERT_GAP_SQL = "INSERT INTO outbox_events "
+            + "(id, aggregate_type, aggregate_id, event_type, payload, created_at) VALUES (?, ?, 0, ?, '{}', ?)";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxCursorRepository outboxCursorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private List<OutboxSink> sinks;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.relay.gap-timeout-ms:5000}")
+    private long gapTimeoutMs;
+
+    @Value("${outbox.relay.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${outbox.relay.instance-id:}")
+    private String instanceId;
+
+    @Value("${outbox.relay.instance-timeout-ms:300000}")
+    private long instanceTimeoutMs;
+
+    private final Map<String, SinkState> states = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        if (instanceId == null || instanceId.isBlank()) {
+            instanceId = UUID.randomUUID().toString();
+        }
+        // shared sinks first, so per-instance sinks reading their output see it in the same pass
+        sinks = sinks.stream().sorted(Comparator.comparing(OutboxSink::perInstance)).toList();
+    }
+
+    /**
+     * Deliver pending events to every sink that is not backing off.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:250}")
+    public void relay() {
+        for (OutboxSink sink : sinks) {
+            relay(sink);
+        }
+    }
+
+    /**
+     * Refresh this instance's cursors, drop those of instances that stopped, and delete events that
+     * every sink has processed on every live instance.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.prune-interval-ms:60000}")
+    public void prune() {
+        LocalDateTime expired = LocalDateTime.now().minusNanos(instanceTimeoutMs * 1_000_000);
+        long delivered = Long.MAX_VALUE;
+        for (OutboxSink sink : sinks) {
+            if (!sink.perInstance()) {
+                delivered = Math.min(delivered, cursorOf(sink.name()));
+                continue;
+            }
+            SinkState state = states.get(sink.name());
+            if (state != null) { // a sink that has not started yet writes its cursor row when it does
+                outboxCursorRepository.save(new OutboxCursor(state.key, state.cursor));
+            }
+            for (OutboxCursor cursor : outboxCursorRepository.findBySinkStartingWith(sink.name() + INSTANCE_SEPARATOR)) {
+                if (cursor.getUpdatedAt().isBefore(expired)) {
+                    logger.info("Dropping outbox cursor '{}' of a stopped instance", cursor.getSink());
+                    outboxCursorRepository.delete(cursor);
+                } else {
+                    delivered = Math.min(delivered, cursor.getLastEventId());
+                }
+            }
+        }
+        if (delivered > 0 && delivered < Long.MAX_VALUE) {
+            int deleted = outboxEventRepository.deleteUpTo(delivered);
+            if (deleted > 0) {
+                logger.debug("Pruned {} delivered outbox event(s)", deleted);
+            }
+        }
+    }
+
+    private void relay(OutboxSink sink) {
+        SinkState state;
+        try {
+            state = stateOf(sink);
+        } catch (RuntimeException e) {
+            logger.warn("Could not start outbox sink '{}', retrying on the next pass", sink.name(), e);
+            return;
+        }
+        if (System.currentTimeMillis() < state.nextAttemptAt) {
+            return;
+        }
+        if (!sink.perInstance() && !outboxEventRepository.existsByIdGreaterThan(cursorOf(sink.name()))) {
+            return; // nothing new; skip taking the cursor lock
+        }
+        boolean gapFilled = false;
+        while (true) {
+            Batch batch;
+            try {
+                batch = sink.perInstance() ? deliverNext(sink, state)
+                        : transactionTemplate.execute(status -> deliverNextLocked(sink, state));
+            } catch (Exception e) {
+                Throwable cause = e instanceof SinkFailure ? e.getCause() : e;
+                state.failures++;
+                long backoff = Math.min(maxBackoffMs, INITIAL_BACKOFF_MS << Math.min(state.failures - 1, 20));
+                state.nextAttemptAt = System.currentTimeMillis() + backoff;
+                logger.warn("Outbox sink '{}' failed (attempt {}), retrying in {} ms", sink.name(), state.failures, backoff, cause);
+                return;
+            }
+            state.failures = 0;
+            state.nextAttemptAt = 0;
+            if (batch.gapFrom() > 0) {
+                // one gap per pass, so a gap that cannot be resolved yet is not retried in a loop
+                if (gapFilled || !fillGap(batch.gapFrom(), batch.gapTo())) {
+                    return;
+                }
+                gapFilled = true;
+            } else if (batch.delivered() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private Batch deliverNextLocked(OutboxSink sink, SinkState state) {
+        OutboxCursor cursor = outboxCursorRepository.findForUpdate(sink.name())
+                .orElseThrow(() -> new IllegalStateException("Missing outbox cursor: " + sink.name()));
+        state.cursor = cursor.getLastEventId();
+        try {
+            Batch batch = deliverNext(sink, state);
+            cursor.setLastEventId(state.cursor);
+            cursor.setUpdatedAt(LocalDateTime.now());
+            return batch;
+        } catch (Exception e) {
+            throw new SinkFailure(e);
+        }
+    }
+
+    /**
+     * Deliver the contiguous run of events after the sink's cursor and advance the cursor past it.
+     *
+     * @return the number of events delivered, and the range of a settled gap found after them, if any
+     */
+    private Batch deliverNext(OutboxSink sink, SinkState state) throws Exception {
+        List<OutboxEvent> events = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(state.cursor, PageRequest.of(0, batchSize));
+        if (sink.upstream() != null) {
+            long limit = cursorOf(sink.upstream());
+            events = events.stream().filter(e -> e.getId() <= limit).toList();
+        }
+        LocalDateTime settled = settledBefore();
+        long expected = state.cursor + 1;
+        long gapFrom = 0;
+        long gapTo = 0;
+        int end = 0;
+        for (; end < events.size(); end++) {
+            OutboxEvent event = events.get(end);
+            if (event.getId() != expected) {
+                if (!event.getCreatedAt().isAfter(settled)) {
+                    gapFrom = expected;
+                    gapTo = event.getId() - 1;
+                }
+                break;
+            }
+            expected = event.getId() + 1;
+        }
+        if (end == 0) {
+            return new Batch(0, gapFrom, gapTo);
+        }
+        List<OutboxEvent> contiguous = events.subList(0, end);
+        sink.deliver(contiguous);
+        state.cursor = contiguous.get(end - 1).getId();
+        if (sink.perInstance()) {
+            outboxCursorRepository.save(new OutboxCursor(state.key, state.cursor));
+        }
+        return new Batch(end, gapFrom, gapTo);
+    }
+
+    /**
+     * Claim the IDs of a settled gap with placeholders. Each insert waits for the transaction that
+     * holds the ID, if any, and succeeds only if that transaction rolled back.
+     *
+     * @return true if every ID in the gap is now visible, false if some are still held
+     */
+    private boolean fillGap(long from, long to) {
+        long last = Math.min(to, from + batchSize - 1);
+        for (long id = from; id <= last; id++) {
+            try {
+                jdbcTemplate.update(INSERT_GAP_SQL, id, OutboxEvent.GAP, OutboxEvent.GAP, Timestamp.valueOf(LocalDateTime.now()));
+                logger.info("Outbox event {} was rolled back; filled its ID with a placeholder", id);
+            } catch (DataIntegrityViolationException e) {
+                // committed after all; it is delivered on the next pass
+            } catch (DataAccessException e) {
+                logger.debug("Outbox event {} is still being written", id, e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long cursorOf(String sink) {
+        return outboxCursorRepository.findById(sink).map(OutboxCursor::getLastEventId).orElse(0L);
+    }
+
+    private SinkState stateOf(OutboxSink sink) {
+        return states.computeIfAbsent(sink.name(), name -> {
+            if (!sink.perInstance()) {
+                createSharedCursor(name);
+                return new SinkState(name, cursorOf(name));
+            }
+            // a new instance starts at the live end; sinks reading another sink's output start where it is
+            long start = sink.upstream() != null ? cursorOf(sink.upstream()) : outboxEventRepository.findMaxId();
+            if (sink.loadsState()) {
+                // step back past events that may not have committed yet, so the load cannot miss them
+                start = Math.min(start, outboxEventRepository.findMaxIdCreatedBefore(settledBefore()));
+            }
+            SinkState state = new SinkState(name + INSTANCE_SEPARATOR + instanceId, start);
+            outboxCursorRepository.save(new OutboxCursor(state.key, start));
+            if (sink.loadsState()) {
+                sink.load();
+            }
+            return state;
+        });
+    }
+
+    private LocalDateTime settledBefore() {
+        return LocalDateTime.now().minusNanos(gapTimeoutMs * 1_000_000);
+    }
+
+    private void createSharedCursor(String sink) {
+        if (outboxCursorRepository.existsById(sink)) {
+            return;
+        }
+        try {
+            outboxCursorRepository.save(new OutboxCursor(sink, 0L));
+        } catch (DataIntegrityViolationException e) {
+            // created concurrently by another instance
+        }
+    }
+
+    /**
+     * Outcome of one delivery attempt: events delivered and the ID range of a settled gap after them
+     * (0 when there is none).
+     */
+    private record Batch(int delivered, long gapFrom, long gapTo) {}
+
+    /** Carries a sink's checked exception out of the delivery transaction, rolling it back. */
+    private static final class SinkFailure extends RuntimeException {
+        private SinkFailure(Exception cause) {
+            super(cause);
+        }
+    }
+
+    private static final class SinkState {
+        private final String key;
+        private long cursor;
+        private int failures;
+        private long nextAttemptAt;
+
+        private SinkState(String key, long cursor) {
+            this.key = key;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskmanagement.outbox;
+
+import com.taskmanagement.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * A destination that outbox events are relayed to. Each sink has its own cursor, so sinks progress
+ * and fail independently; every sink receives every event, in ID order, and ignores the ones it does
+ * not handle.
+ * <p>
+ * A shared sink has one cursor for the whole deployment and is fed by one instance at a time, inside
+ * a transaction holding its cursor row, so writes it makes to the database commit together with the
+ * cursor. A per-instance sink (for state local to the JVM, such as WebSocket subscribers or caches)
+ * has a cursor per running instance.
+ * <p>
+ * A per-instance sink that derives its state from the database {@linkplain #loadsState() loads} it
+ * when the instance starts. The relay places the instance's cursor first and loads afterwards, so every
+ * change that commits while the load runs is delivered too: the load and the events overlap rather
+ * than leave a hole, and the sink must apply an event it has already seen in its loaded state as a
+ * no-op (for example by overwriting per-entity state instead of adjusting counts).
+ */
+public interface OutboxSink {
+
+    /**
+     * @return a stable name identifying this sink's cursor
+     */
+    String name();
+
+    /**
+     * @return true if every running instance feeds this sink with its own cursor
+     */
+    default boolean perInstance() {
+        return false;
+    }
+
+    /**
+     * @return name of a shared sink whose output this sink reads, or null; events are delivered to this
+     *         sink only once that sink has processed them
+     */
+    default String upstream() {
+        return null;
+    }
+
+    /**
+     * @return true if this per-instance sink holds state that {@link #load()} reads from the database
+     */
+    default boolean loadsState() {
+        return false;
+    }
+
+    /**
+     * Load this sink's state from the database. Called by the relay once per start, after this
+     * instance's cursor has been placed and before the first delivery; throwing makes the relay retry.
+     */
+    default void load() {}
+
+    /**
+     * Deliver a batch of events. Throwing leaves the cursor unchanged, so the whole batch is
+     * redelivered on the next attempt; sinks must therefore tolerate duplicates.
+     *
+     * @param events the events, in ascending ID order
+     * @throws Exception if delivery failed
+     */
+    void deliver(List<OutboxEvent> events) throws Exception;
+}
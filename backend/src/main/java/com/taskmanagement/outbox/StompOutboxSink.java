@@ -0,0 +1,47 @@
+package com.taskmanagement.outbox;
+
+import com.taskmanagement.entity.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes task events to WebSocket subscribers of {@code /topic/tasks}. The stored JSON payload is
+ * sent as-is rather than being deserialized and converted again. Subscribers are connected to a single
+ * instance, so every instance relays with its own cursor.
+ */
+@Component
+public class StompOutboxSink implements OutboxSink {
+
+    private static final Map<String, Object> JSON_HEADERS =
+            Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON);
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public String name() {
+        return "stomp";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            if (OutboxEvent.TASK.equals(event.getAggregateType())) {
+                messagingTemplate.convertAndSend("/topic/tasks",
+                        event.getPayload().getBytes(StandardCharsets.UTF_8), JSON_HEADERS);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ActivityArchiveChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ActivityArchiveRepository extends JpaRepository<ActivityArchiveChunk, Long> {
+
+    boolean existsByTaskId(Long taskId);
+
+    List<ActivityArchiveChunk> findByTaskIdOrderByIdAsc(Long taskId);
+
+    Optional<ActivityArchiveChunk> findFirstByTaskIdOrderByIdDesc(Long taskId);
+}
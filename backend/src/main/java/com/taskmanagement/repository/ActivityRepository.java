@@ -1,12 +1,20 @@
 package com.taskmanagement.repository;
 
 import com.taskmanagement.entity.Activity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ActivityRepository extends JpaRepository<Activity, Long> {
+public interface ActivityRepository extends JpaRepository<Activity, Long>, JpaSpecificationExecutor<Activity> {
     List<Activity> findByTaskIdOrderByCreatedAtAsc(Long taskId);
+
+    List<Activity> findByCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(LocalDateTime cutoff, Long afterId, Pageable pageable);
+
+    List<Activity> findBySourceEventIdIn(Collection<Long> sourceEventIds);
 }
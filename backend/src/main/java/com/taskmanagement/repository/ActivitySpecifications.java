@@ -0,0 +1,57 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.Activity;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds JPA {@link Specification}s for activity feeds, which are read newest first and paginated by
+ * a keyset on {@code (created_at, id)}.
+ */
+public final class ActivitySpecifications {
+
+    /** Feed order: newest first, ties broken by ID. */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private ActivitySpecifications() {}
+
+    /**
+     * Specification for one page of a feed. Every argument is optional.
+     *
+     * @param taskId restrict to one task
+     * @param actorId restrict to one actor
+     * @param since earliest creation time, inclusive
+     * @param until latest creation time, inclusive
+     * @param before cursor of the last row of the previous page
+     * @return the combined specification
+     */
+    public static Specification<Activity> feed(Long taskId, Long actorId, LocalDateTime since, LocalDateTime until,
+                                               KeysetCursor before) {
+        List<Specification<Activity>> specs = new ArrayList<>();
+        if (taskId != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("taskId"), taskId));
+        }
+        if (actorId != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("actorId"), actorId));
+        }
+        if (since != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), since));
+        }
+        if (until != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("createdAt"), until));
+        }
+        if (before != null) {
+            specs.add((root, query, cb) -> {
+                Path<LocalDateTime> createdAt = root.get("createdAt");
+                return cb.or(cb.lessThan(createdAt, before.value()),
+                        cb.and(cb.equal(createdAt, before.value()), cb.lessThan(root.get("id"), before.id())));
+            });
+        }
+        return Specification.allOf(specs);
+    }
+}
@@ -1,13 +1,35 @@
 package com.taskmanagement.repository;
 
 import com.taskmanagement.entity.Comment;
+import com.taskmanagement.search.IndexedText;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByTaskIdOrderByCreatedAtAsc(Long taskId);
     List<Comment> findByAuthorId(Long authorId);
+
+    List<Comment> findByTaskIdOrderByCreatedAtAscIdAsc(Long taskId, Limit limit);
+
+    @Query("SELECT c FROM Comment c WHERE c.taskId = :taskId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findPageAfter(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskmanagement.search.IndexedText(c.id, c.taskId, c.content) FROM Comment c")
+    Stream<IndexedText> streamSearchableText();
 }
@@ -0,0 +1,36 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * Take the lease if it is free or expired.
+     *
+     * @return 1 if the lease was taken, 0 if another owner holds it
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobLock l SET l.lockedBy = :owner, l.lockedUntil = :until WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * Give the lease up early, if this owner still holds it.
+     *
+     * @return 1 if the lease was released
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobLock l SET l.lockedBy = NULL, l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
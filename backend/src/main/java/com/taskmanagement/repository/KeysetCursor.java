@@ -0,0 +1,47 @@
+package com.taskmanagement.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset-paginated page: its sort column value and ID, and optionally the
+ * sort order the page was read in, so the cursor cannot be replayed against a different order.
+ *
+ * @param value sort column value, null when sorting by ID alone
+ * @param id row ID
+ * @param order sort order the cursor was issued for, null when the listing has a single fixed order
+ */
+public record KeysetCursor(LocalDateTime value, Long id, String order) {
+
+    public KeysetCursor(LocalDateTime value, Long id) {
+        this(value, id, null);
+    }
+
+    /**
+     * Encode as an opaque, URL-safe string.
+     */
+    public String encode() {
+        String raw = (order != null ? order + "|" : "") + (value != null ? value.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a string produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            int orderSep = raw.lastIndexOf('|', sep - 1);
+            String order = orderSep >= 0 ? raw.substring(0, orderSep) : null;
+            String value = raw.substring(orderSep + 1, sep);
+            return new KeysetCursor(value.isEmpty() ? null : LocalDateTime.parse(value),
+                    Long.parseLong(raw.substring(sep + 1)), order);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded, e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.OutboxCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, String> {
+
+    /**
+     * Read a cursor and lock its row until the current transaction ends.
+     *
+     * @param sink the sink name
+     * @return the cursor, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM OutboxCursor c WHERE c.sink = :sink")
+    Optional<OutboxCursor> findForUpdate(@Param("sink") String sink);
+
+    List<OutboxCursor> findBySinkStartingWith(String prefix);
+}
@@ -0,0 +1,45 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    boolean existsByIdGreaterThan(Long id);
+
+    /**
+     * @return the highest event ID, or 0 if the outbox is empty
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e")
+    long findMaxId();
+
+    /**
+     * @param createdAt exclusive upper bound on the creation time
+     * @return the highest ID of an event created before the given time, or 0 if there is none
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e WHERE e.createdAt < :createdAt")
+    long findMaxIdCreatedBefore(@Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Delete every event up to and including the given ID.
+     *
+     * @param id the highest ID to delete
+     * @return number of deleted events
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent e WHERE e.id <= :id")
+    int deleteUpTo(@Param("id") Long id);
+}
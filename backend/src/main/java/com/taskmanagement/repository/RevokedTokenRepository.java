@@ -0,0 +1,41 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Page through unexpired revocations made at or after a point in time, in ID order.
+     *
+     * @param since earliest revocation time to include
+     * @param now the current time
+     * @param afterId ID of the last row of the previous page, 0 for the first
+     * @param pageable page size
+     * @return the matching revocations
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now AND r.id > :afterId ORDER BY r.id")
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now,
+                                        @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Delete revocations of tokens that have expired anyway.
+     *
+     * @param now the current time
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
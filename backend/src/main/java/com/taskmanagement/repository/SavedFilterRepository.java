@@ -0,0 +1,12 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.SavedFilter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SavedFilterRepository extends JpaRepository<SavedFilter, Long> {
+    List<SavedFilter> findByOwnerIdOrderByNameAsc(Long ownerId);
+}
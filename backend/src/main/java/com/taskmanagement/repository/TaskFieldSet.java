@@ -0,0 +1,79 @@
+package com.taskmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A sparse fieldset of {@link com.taskmanagement.entity.Task} attributes, as requested with
+ * {@code ?fields=}. Only the listed columns are selected and serialized; {@code id} is always included.
+ *
+ * @param fields attribute names in {@link #ALL} order
+ */
+public record TaskFieldSet(List<String> fields) {
+
+    /** Every selectable attribute, in {@link com.taskmanagement.dto.TaskResponse} order. */
+    public static final List<String> ALL = List.of("id", "title", "description", "status", "priority",
+            "assigneeId", "creatorId", "createdAt", "updatedAt", "dueDate", "version", "commentCount",
+            "lastCommentAt");
+
+    /**
+     * Parse a comma-separated list of attribute names.
+     *
+     * @param spec the {@code fields} parameter, may be null
+     * @return the fieldset, or null when no fields were requested
+     * @throws IllegalArgumentException if an attribute name is unknown
+     */
+    public static TaskFieldSet parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : spec.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!ALL.contains(name)) {
+                throw new IllegalArgumentException("Unknown task field: " + name);
+            }
+            requested.add(name);
+        }
+        List<String> fields = new ArrayList<>();
+        for (String name : ALL) {
+            if (name.equals("id") || requested.contains(name)) {
+                fields.add(name);
+            }
+        }
+        return new TaskFieldSet(List.copyOf(fields));
+    }
+
+    public boolean contains(String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * The fieldset extended with the given attributes. Attributes outside {@link #ALL}, which clients
+     * cannot request, are appended at the end.
+     *
+     * @param extra attribute names to add
+     * @return a fieldset containing both
+     */
+    public TaskFieldSet with(String... extra) {
+        Set<String> added = new LinkedHashSet<>(Arrays.asList(extra));
+        List<String> merged = new ArrayList<>();
+        for (String name : ALL) {
+            if (fields.contains(name) || added.contains(name)) {
+                merged.add(name);
+            }
+        }
+        for (String name : added) {
+            if (!ALL.contains(name) && !merged.contains(name)) {
+                merged.add(name);
+            }
+        }
+        return new TaskFieldSet(List.copyOf(merged));
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskHistoryEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskHistoryEventRepository extends JpaRepository<TaskHistoryEvent, Long> {
+
+    /**
+     * Get the latest version recorded for a task.
+     *
+     * @param taskId the task ID
+     * @return the latest version, or null if the task has no history
+     */
+    @Query("SELECT MAX(e.version) FROM TaskHistoryEvent e WHERE e.taskId = :taskId")
+    Long findLatestVersion(@Param("taskId") Long taskId);
+
+    Optional<TaskHistoryEvent> findByTaskIdAndVersion(Long taskId, long version);
+
+    Optional<TaskHistoryEvent> findTopByTaskIdAndOccurredAtLessThanEqualOrderByVersionDesc(Long taskId, LocalDateTime at);
+
+    /**
+     * Get the changes recorded for a range of versions, oldest first.
+     *
+     * @param taskId the task ID
+     * @param from first version (inclusive)
+     * @param to last version (inclusive)
+     * @return the JSON changes of each version in the range
+     */
+    @Query("SELECT e.changes FROM TaskHistoryEvent e " +
+           "WHERE e.taskId = :taskId AND e.version BETWEEN :from AND :to ORDER BY e.version ASC")
+    List<String> findChangesBetween(@Param("taskId") Long taskId, @Param("from") long from, @Param("to") long to);
+}
@@ -1,20 +1,33 @@
 package com.taskmanagement.repository;
 
+import com.taskmanagement.dto.TaskPlacement;
+import com.taskmanagement.dto.TaskRevision;
+import com.taskmanagement.dto.TaskStatsBucket;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.entity.Priority;
+import com.taskmanagement.search.IndexedText;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * Repository interface for Task entity operations.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     
     /**
      * Find tasks by creator ID.
@@ -56,29 +69,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return List of tasks matching the criteria
      */
     List<Task> findByCreatorIdAndStatus(Long creatorId, TaskStatus status);
-    
-    /**
-     * Find tasks by assignee ID and status.
-     *
-     * @param assigneeId the assignee ID
-     * @param status the task status
-     * @return List of tasks matching the criteria
-     */
-    List<Task> findByAssigneeIdAndStatus(Long assigneeId, TaskStatus status);
-
-    /**
-     * Find tasks where assignee is null (unassigned)
-     * @return list of unassigned tasks
-     */
-    List<Task> findByAssigneeIdIsNull();
-
-    /**
-     * Find tasks by status where assignee is null
-     * @param status the status
-     * @return list of tasks with the status and no assignee
-     */
-    List<Task> findByStatusAndAssigneeIdIsNull(TaskStatus status);
-    
+        
     /**
      * Find tasks where user is either creator or assignee.
      *
@@ -123,4 +114,86 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return Number of tasks assigned to the user
      */
     long countByAssigneeId(Long assigneeId);
+
+    /**
+     * Count tasks grouped by status, priority and assignee in a single query.
+     *
+     * @return one bucket per non-empty status/priority/assignee combination
+     */
+    @Query("SELECT new com.taskmanagement.dto.TaskStatsBucket(t.status, t.priority, t.assigneeId, COUNT(t)) " +
+           "FROM Task t GROUP BY t.status, t.priority, t.assigneeId")
+    List<TaskStatsBucket> countGroupedByStatusPriorityAndAssignee();
+
+    /**
+     * Stream the status, priority and assignee of every task. Must be consumed inside a transaction.
+     *
+     * @return stream of task placements
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskmanagement.dto.TaskPlacement(t.id, t.status, t.priority, t.assigneeId) FROM Task t")
+    Stream<TaskPlacement> streamPlacements();
+
+    /**
+     * Stream the searchable text of every task. Must be consumed inside a transaction.
+     *
+     * @return stream of task ID, title and description projections
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskmanagement.search.IndexedText(t.id, t.title, t.description) FROM Task t")
+    Stream<IndexedText> streamSearchableText();
+
+    /**
+     * Record a new comment on a task. Bumps the comment version rather than the version, so the ETag
+     * changes but an edit conditional on the version read before commenting still succeeds.
+     *
+     * @param taskId the task ID
+     * @param commentedAt creation time of the comment
+     * @return number of updated tasks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.commentVersion = t.commentVersion + 1, t.commentCount = t.commentCount + 1, " +
+           "t.lastCommentAt = :commentedAt " +
+           "WHERE t.id = :taskId")
+    int incrementCommentCount(@Param("taskId") Long taskId, @Param("commentedAt") LocalDateTime commentedAt);
+
+    /**
+     * Record a deleted comment on a task, recomputing the newest comment time and bumping the comment
+     * version.
+     *
+     * @param taskId the task ID
+     * @return number of updated tasks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.commentVersion = t.commentVersion + 1, t.commentCount = t.commentCount - 1, " +
+           "t.lastCommentAt = (SELECT MAX(c.createdAt) FROM Comment c WHERE c.taskId = :taskId) " +
+           "WHERE t.id = :taskId")
+    int decrementCommentCount(@Param("taskId") Long taskId);
+
+    /**
+     * Recompute the comment count and newest comment time of every task from the comments table.
+     *
+     * @return number of updated tasks
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.commentVersion = t.commentVersion + 1, " +
+           "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.taskId = t.id), " +
+           "t.lastCommentAt = (SELECT MAX(c.createdAt) FROM Comment c WHERE c.taskId = t.id)")
+    int refreshCommentSummaries();
+
+    /**
+     * Find tasks that have no recorded history, such as those created before history was kept.
+     *
+     * @return list of tasks without history events
+     */
+    @Query("SELECT t FROM Task t WHERE NOT EXISTS (SELECT e FROM TaskHistoryEvent e WHERE e.taskId = t.id)")
+    List<Task> findWithoutHistory();
+
+    /**
+     * Get the version and comment version of a task without loading the entity.
+     *
+     * @param id the task ID
+     * @return the revision, or empty if the task does not exist
+     */
+    @Query("SELECT new com.taskmanagement.dto.TaskRevision(t.version, t.commentVersion) FROM Task t WHERE t.id = :id")
+    Optional<TaskRevision> findRevisionById(@Param("id") Long id);
 }
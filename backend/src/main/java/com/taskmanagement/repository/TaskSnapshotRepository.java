@@ -0,0 +1,13 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskSnapshotRepository extends JpaRepository<TaskSnapshot, Long> {
+
+    Optional<TaskSnapshot> findTopByTaskIdAndVersionLessThanEqualOrderByVersionDesc(Long taskId, long version);
+}
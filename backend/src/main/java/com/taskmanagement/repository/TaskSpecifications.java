@@ -0,0 +1,224 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.dto.TaskFilter;
+import com.taskmanagement.entity.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds JPA {@link Specification}s for {@link Task} queries from a {@link TaskFilter}.
+ * <p>
+ * Each criterion becomes one predicate on a bare indexed column: sets turn into a single
+ * {@code IN (...)} and ranges into {@code >=} / {@code <=} bounds, so the database can use the
+ * indexes declared on {@link Task}. Only criteria that are present contribute a predicate, which keeps
+ * the generated SQL (and its cached plan) identical for filters of the same shape.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {}
+
+    /**
+     * Build the specification for every criterion in the filter, including the keyset cursor.
+     *
+     * @param filter the filter
+     * @return the combined specification
+     */
+    public static Specification<Task> fromFilter(TaskFilter filter) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        specs.add(in("status", filter.getStatuses()));
+        specs.add(in("priority", filter.getPriorities()));
+        specs.add(in("creatorId", filter.getCreatorIds()));
+        specs.add(assignedTo(filter.getAssigneeIds(), filter.isUnassigned()));
+        specs.add(between("dueDate", filter.getDueFrom(), filter.getDueTo()));
+        specs.add(between("updatedAt", filter.getUpdatedFrom(), filter.getUpdatedTo()));
+        specs.add(textContains(filter.getText()));
+        if (filter.getAfter() != null && !filter.getAfter().isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(filter.getAfter());
+            if (!orderOf(filter).equals(cursor.order())) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort order than " + orderOf(filter));
+            }
+            specs.add(after(filter.getSort(), filter.getDirection(), cursor));
+        }
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * Sort order for a filter: the requested column, then task ID in the same direction.
+     *
+     * @param filter the filter
+     * @return the sort
+     */
+    public static Sort sortOf(TaskFilter filter) {
+        Sort.Direction direction = filter.getDirection() == TaskFilter.Direction.ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (filter.getSort() == TaskFilter.SortField.ID) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, filter.getSort().getAttribute(), "id");
+    }
+
+    /**
+     * Match tasks whose attribute is one of the given values. Null or empty matches everything.
+     */
+    public static <T> Specification<Task> in(String attribute, Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get(attribute).in(values);
+    }
+
+    /**
+     * Match tasks assigned to any of the given users and, if requested, unassigned tasks.
+     */
+    public static Specification<Task> assignedTo(Collection<Long> assigneeIds, boolean includeUnassigned) {
+        boolean hasIds = assigneeIds != null && !assigneeIds.isEmpty();
+        if (!hasIds && !includeUnassigned) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<Long> assignee = root.get("assigneeId");
+            if (!hasIds) {
+                return cb.isNull(assignee);
+            }
+            if (!includeUnassigned) {
+                return assignee.in(assigneeIds);
+            }
+            return cb.or(assignee.in(assigneeIds), cb.isNull(assignee));
+        };
+    }
+
+    /**
+     * Match tasks whose date attribute lies within the inclusive range. Either bound may be null.
+     */
+    public static Specification<Task> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDateTime> path = root.get(attribute);
+            if (from == null) {
+                return cb.lessThanOrEqualTo(path, to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(path, from);
+            }
+            return cb.between(path, from, to);
+        };
+    }
+
+    /**
+     * Match tasks whose title or description contains the text, ignoring case.
+     */
+    public static Specification<Task> textContains(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, '\\'),
+                cb.like(cb.lower(root.get("description")), pattern, '\\'));
+    }
+
+    /**
+     * Keyset predicate selecting rows strictly after the cursor in the given order.
+     */
+    public static Specification<Task> after(TaskFilter.SortField sort, TaskFilter.Direction direction, KeysetCursor cursor) {
+        boolean asc = direction == TaskFilter.Direction.ASC;
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            Predicate idAfter = asc ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+            if (sort == TaskFilter.SortField.ID) {
+                return idAfter;
+            }
+            Path<LocalDateTime> column = root.get(sort.getAttribute());
+            LocalDateTime value = cursor.value();
+            Predicate columnAfter = asc ? cb.greaterThan(column, value) : cb.lessThan(column, value);
+            return cb.or(columnAfter, cb.and(cb.equal(column, value), idAfter));
+        };
+    }
+
+    /**
+     * Evaluate the filter criteria against a task in memory, with the same semantics as
+     * {@link #fromFilter(TaskFilter)}. Sort, cursor and limit are ignored.
+     *
+     * @param filter the filter
+     * @param task the task
+     * @return true if the task satisfies every criterion
+     */
+    public static boolean matches(TaskFilter filter, Task task) {
+        if (!isEmpty(filter.getStatuses()) && !filter.getStatuses().contains(task.getStatus())) {
+            return false;
+        }
+        if (!isEmpty(filter.getPriorities()) && !filter.getPriorities().contains(task.getPriority())) {
+            return false;
+        }
+        if (!isEmpty(filter.getCreatorIds()) && !filter.getCreatorIds().contains(task.getCreatorId())) {
+            return false;
+        }
+        boolean hasAssignees = !isEmpty(filter.getAssigneeIds());
+        if (hasAssignees || filter.isUnassigned()) {
+            boolean assigned = task.getAssigneeId() != null;
+            boolean ok = (hasAssignees && assigned && filter.getAssigneeIds().contains(task.getAssigneeId()))
+                    || (filter.isUnassigned() && !assigned);
+            if (!ok) {
+                return false;
+            }
+        }
+        if (!inRange(task.getDueDate(), filter.getDueFrom(), filter.getDueTo())
+                || !inRange(task.getUpdatedAt(), filter.getUpdatedFrom(), filter.getUpdatedTo())) {
+            return false;
+        }
+        if (filter.getText() != null && !filter.getText().isBlank()) {
+            String needle = filter.getText().trim().toLowerCase(Locale.ROOT);
+            return contains(task.getTitle(), needle) || contains(task.getDescription(), needle);
+        }
+        return true;
+    }
+
+    private static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static boolean inRange(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        return value != null && (from == null || !value.isBefore(from)) && (to == null || !value.isAfter(to));
+    }
+
+    private static boolean contains(String haystack, String lowerNeedle) {
+        return haystack != null && haystack.toLowerCase(Locale.ROOT).contains(lowerNeedle);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Cursor pointing at the given task for the filter's sort column and direction.
+     *
+     * @param task the last task of a page
+     * @param filter the filter the page was read with
+     * @return the cursor
+     */
+    public static KeysetCursor cursorOf(Task task, TaskFilter filter) {
+        LocalDateTime value = switch (filter.getSort()) {
+            case CREATED_AT -> task.getCreatedAt();
+            case UPDATED_AT -> task.getUpdatedAt();
+            case ID -> null;
+        };
+        return new KeysetCursor(value, task.getId(), orderOf(filter));
+    }
+
+    private static String orderOf(TaskFilter filter) {
+        return filter.getSort() + ":" + filter.getDirection();
+    }
+}
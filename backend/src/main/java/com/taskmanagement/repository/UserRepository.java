@@ -1,9 +1,12 @@
 package com.taskmanagement.repository;
 
+import com.taskmanagement.dto.UserSuggestion;
 import com.taskmanagement.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -43,4 +46,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if user exists, false otherwise
      */
     Boolean existsByEmail(String email);
+
+    /**
+     * Load the ID and username of every user, without passwords or other columns.
+     *
+     * @return list of user suggestions
+     */
+    @Query("SELECT new com.taskmanagement.dto.UserSuggestion(u.id, u.username) FROM User u")
+    List<UserSuggestion> findAllSuggestions();
 }
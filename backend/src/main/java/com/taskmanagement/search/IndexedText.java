@@ -0,0 +1,58 @@
+package com.taskmanagement.search;
+
+/**
+ * Lightweight projection of the searchable text of a task or comment, used to stream rows into the
+ * search index without loading managed entities.
+ */
+public class IndexedText {
+
+    private final Long id;
+    private final Long taskId;
+    private final String primary;
+    private final String secondary;
+
+    /**
+     * Projection of a task row.
+     *
+     * @param taskId the task ID
+     * @param title the task title
+     * @param description the task description
+     */
+    public IndexedText(Long taskId, String title, String description) {
+        this(taskId, taskId, title, description);
+    }
+
+    /**
+     * Projection of a comment row.
+     *
+     * @param commentId the comment ID
+     * @param taskId the task the comment belongs to
+     * @param content the comment content
+     */
+    public IndexedText(Long commentId, Long taskId, String content) {
+        this(commentId, taskId, content, null);
+    }
+
+    private IndexedText(Long id, Long taskId, String primary, String secondary) {
+        this.id = id;
+        this.taskId = taskId;
+        this.primary = primary;
+        this.secondary = secondary;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getPrimary() {
+        return primary;
+    }
+
+    public String getSecondary() {
+        return secondary;
+    }
+}
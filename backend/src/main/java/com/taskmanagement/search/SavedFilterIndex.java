@@ -0,0 +1,215 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.dto.TaskFilter;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.TaskSpecifications;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Materialized task-id sets of saved filters, maintained incrementally from task changes.
+ * <p>
+ * Filters are indexed by their most selective equality criterion (status, then assignee, then
+ * priority), so a change only re-evaluates the filters that could match the task before or after
+ * it; filters without such a criterion are always evaluated. Membership sets are concurrent, so
+ * reads never block on updates.
+ */
+public class SavedFilterIndex {
+
+    /**
+     * Change of one filter's membership caused by a single task change.
+     */
+    public record Delta(Long filterId, Long taskId, boolean added) {}
+
+    private static final String ANY = "*";
+
+    private final Map<Long, View> views = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> filtersByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Register a filter with its initial membership, replacing any previous registration.
+     *
+     * @param filterId the saved filter ID
+     * @param filter the filter criteria
+     * @param taskIds IDs of the tasks currently matching the filter
+     */
+    public void register(Long filterId, TaskFilter filter, Collection<Long> taskIds) {
+        begin(filterId, filter);
+        complete(filterId, taskIds);
+    }
+
+    /**
+     * Start registering a filter whose membership is still being queried. Until {@link #complete} is
+     * called, task changes routed to the filter are only recorded, then replayed over the query result,
+     * so changes committed while the query runs are not lost.
+     *
+     * @param filterId the saved filter ID
+     * @param filter the filter criteria
+     */
+    public void begin(Long filterId, TaskFilter filter) {
+        unregister(filterId);
+        View view = new View(filter, keysOf(filter));
+        views.put(filterId, view);
+        for (String key : view.keys) {
+            filtersByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(filterId);
+        }
+    }
+
+    /**
+     * Finish a registration started with {@link #begin}: load the queried membership and replay the
+     * task changes recorded since. Does nothing if the filter was unregistered in the meantime.
+     *
+     * @param filterId the saved filter ID
+     * @param taskIds IDs of the tasks the membership query returned
+     */
+    public void complete(Long filterId, Collection<Long> taskIds) {
+        View view = views.get(filterId);
+        if (view == null) {
+            return;
+        }
+        synchronized (view) {
+            if (view.pending == null) {
+                return;
+            }
+            view.taskIds.addAll(taskIds);
+            view.pending.forEach((taskId, current) -> {
+                if (current != null && TaskSpecifications.matches(view.filter, current)) {
+                    view.taskIds.add(taskId);
+                } else {
+                    view.taskIds.remove(taskId);
+                }
+            });
+            view.pending = null;
+        }
+    }
+
+    /**
+     * Drop a filter and its membership.
+     *
+     * @param filterId the saved filter ID
+     */
+    public void unregister(Long filterId) {
+        View view = views.remove(filterId);
+        if (view == null) {
+            return;
+        }
+        for (String key : view.keys) {
+            Set<Long> ids = filtersByKey.get(key);
+            if (ids != null) {
+                ids.remove(filterId);
+            }
+        }
+    }
+
+    /**
+     * Re-evaluate the candidate filters for a task change and update their membership.
+     *
+     * @param previous the task before the change, or null if it was created
+     * @param current the task after the change, or null if it was deleted
+     * @return the membership changes, one per affected filter
+     */
+    public List<Delta> apply(Task previous, Task current) {
+        Long taskId = current != null ? current.getId() : previous.getId();
+        Set<Long> candidates = new HashSet<>();
+        collectCandidates(previous, candidates);
+        collectCandidates(current, candidates);
+
+        List<Delta> deltas = new ArrayList<>();
+        for (Long filterId : candidates) {
+            View view = views.get(filterId);
+            if (view == null || recordPending(view, taskId, current)) {
+                continue;
+            }
+            boolean matches = current != null && TaskSpecifications.matches(view.filter, current);
+            if (matches ? view.taskIds.add(taskId) : view.taskIds.remove(taskId)) {
+                deltas.add(new Delta(filterId, taskId, matches));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Current membership of a filter.
+     *
+     * @param filterId the saved filter ID
+     * @return the matching task IDs, or null if the filter is not registered
+     */
+    public Set<Long> members(Long filterId) {
+        View view = views.get(filterId);
+        return view == null ? null : Set.copyOf(view.taskIds);
+    }
+
+    /**
+     * Remove every filter.
+     */
+    public void clear() {
+        views.clear();
+        filtersByKey.clear();
+    }
+
+    private static boolean recordPending(View view, Long taskId, Task current) {
+        synchronized (view) {
+            if (view.pending == null) {
+                return false;
+            }
+            view.pending.put(taskId, current);
+            return true;
+        }
+    }
+
+    private void collectCandidates(Task task, Set<Long> out) {
+        addAll(out, ANY);
+        if (task == null) {
+            return;
+        }
+        addAll(out, "s:" + task.getStatus());
+        addAll(out, "a:" + task.getAssigneeId());
+        addAll(out, "p:" + task.getPriority());
+    }
+
+    private void addAll(Set<Long> out, String key) {
+        Set<Long> ids = filtersByKey.get(key);
+        if (ids != null) {
+            out.addAll(ids);
+        }
+    }
+
+    private static List<String> keysOf(TaskFilter filter) {
+        List<String> keys = new ArrayList<>();
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            filter.getStatuses().forEach(s -> keys.add("s:" + s));
+        } else if (filter.getAssigneeIds() != null && !filter.getAssigneeIds().isEmpty()) {
+            filter.getAssigneeIds().forEach(a -> keys.add("a:" + a));
+            if (filter.isUnassigned()) {
+                keys.add("a:null");
+            }
+        } else if (filter.isUnassigned()) {
+            keys.add("a:null");
+        } else if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            filter.getPriorities().forEach(p -> keys.add("p:" + p));
+        } else {
+            keys.add(ANY);
+        }
+        return keys;
+    }
+
+    private static final class View {
+        private final TaskFilter filter;
+        private final List<String> keys;
+        private final Set<Long> taskIds = ConcurrentHashMap.newKeySet();
+        /** Latest state (null = deleted) of each task changed before the membership was loaded. */
+        private Map<Long, Task> pending = new LinkedHashMap<>();
+
+        private View(TaskFilter filter, List<String> keys) {
+            this.filter = filter;
+            this.keys = keys;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.taskmanagement.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over task titles, descriptions and comment contents.
+ * <p>
+ * Each task is one document. Term frequencies from the title are weighted higher than those from
+ * the description and comments, and results are ranked with BM25. Updates replace a single field of
+ * a single document, so the index can be maintained incrementally as tasks and comments change.
+ * Reads run concurrently; writes take a short exclusive lock.
+ */
+public class TaskSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final int COMMENT_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** term -> (taskId -> weighted term frequency) */
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    private long totalLength;
+
+    /**
+     * A scored search hit.
+     */
+    public record Hit(Long taskId, double score) {}
+
+    /**
+     * One page of ranked hits together with the total number of matching tasks.
+     */
+    public record Result(List<Hit> hits, int total) {}
+
+    /**
+     * Index or re-index the title and description of a task.
+     *
+     * @param taskId the task ID
+     * @param title the task title
+     * @param description the task description, may be null
+     */
+    public void indexTask(Long taskId, String title, String description) {
+        lock.writeLock().lock();
+        try {
+            Document doc = documents.computeIfAbsent(taskId, id -> new Document());
+            doc.title = termFrequencies(title);
+            doc.description = termFrequencies(description);
+            reindex(taskId, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index or re-index the content of a comment on a task.
+     *
+     * @param taskId the task the comment belongs to
+     * @param commentId the comment ID
+     * @param content the comment content
+     */
+    public void indexComment(Long taskId, Long commentId, String content) {
+        lock.writeLock().lock();
+        try {
+            Document doc = documents.computeIfAbsent(taskId, id -> new Document());
+            doc.comments.put(commentId, termFrequencies(content));
+            reindex(taskId, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a comment from the index.
+     *
+     * @param taskId the task the comment belongs to
+     * @param commentId the comment ID
+     */
+    public void removeComment(Long taskId, Long commentId) {
+        lock.writeLock().lock();
+        try {
+            Document doc = documents.get(taskId);
+            if (doc != null && doc.comments.remove(commentId) != null) {
+                reindex(taskId, doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a task and all of its comments from the index.
+     *
+     * @param taskId the task ID
+     */
+    public void removeTask(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            Document doc = documents.remove(taskId);
+            if (doc != null) {
+                unpost(taskId, doc.weighted);
+                totalLength -= doc.length;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every document from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed tasks.
+     *
+     * @return document count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Run a ranked search. Tasks matching any query term are returned, best matches first.
+     *
+     * @param query free-text query
+     * @param offset number of hits to skip
+     * @param limit maximum number of hits to return
+     * @return the requested page of hits and the total match count
+     */
+    public Result search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return new Result(Collections.emptyList(), 0);
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int n = documents.size();
+            double avgLength = n == 0 ? 0 : (double) totalLength / n;
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((taskId, tf) -> {
+                    double norm = K1 * (1 - B + B * documents.get(taskId).length / avgLength);
+                    scores.merge(taskId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                });
+            }
+            scores.forEach((taskId, score) -> hits.add(new Hit(taskId, score)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort((a, b) -> a.score() != b.score()
+                ? Double.compare(b.score(), a.score())
+                : Long.compare(b.taskId(), a.taskId()));
+        int from = Math.min(Math.max(offset, 0), hits.size());
+        int to = from + Math.min(Math.max(limit, 0), hits.size() - from);
+        return new Result(new ArrayList<>(hits.subList(from, to)), hits.size());
+    }
+
+    /**
+     * Split text into lower-cased alphanumeric terms of at least two characters.
+     *
+     * @param text the text to tokenize, may be null
+     * @return the terms in order of appearance
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= 2) {
+                    terms.add(lower.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (String term : tokenize(text)) {
+            tf.merge(term, 1, Integer::sum);
+        }
+        return tf;
+    }
+
+    private void reindex(Long taskId, Document doc) {
+        unpost(taskId, doc.weighted);
+        totalLength -= doc.length;
+
+        Map<String, Integer> weighted = new HashMap<>();
+        doc.title.forEach((term, tf) -> weighted.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+        doc.description.forEach((term, tf) -> weighted.merge(term, tf * DESCRIPTION_WEIGHT, Integer::sum));
+        for (Map<String, Integer> comment : doc.comments.values()) {
+            comment.forEach((term, tf) -> weighted.merge(term, tf * COMMENT_WEIGHT, Integer::sum));
+        }
+
+        doc.weighted = weighted;
+        doc.length = weighted.values().stream().mapToInt(Integer::intValue).sum();
+        totalLength += doc.length;
+        weighted.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, tf));
+    }
+
+    private void unpost(Long taskId, Map<String, Integer> weighted) {
+        for (String term : weighted.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(taskId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static final class Document {
+        Map<String, Integer> title = Collections.emptyMap();
+        Map<String, Integer> description = Collections.emptyMap();
+        final Map<Long, Map<String, Integer>> comments = new HashMap<>();
+        Map<String, Integer> weighted = Collections.emptyMap();
+        int length;
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.dto.UserSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sorted, prefix-searchable index of usernames.
+ * <p>
+ * Entries live in an array ordered by lower-cased username. Lookups binary-search the first entry
+ * at or after the prefix and scan forward while entries still match, so a top-k query costs
+ * O(log n + k) with no locking. Writers replace the array copy-on-write, which suits a user table
+ * that is read on every keystroke but only grows on registration.
+ */
+public class UsernameIndex {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key).thenComparing(Entry::id);
+
+    private volatile Entry[] entries = new Entry[0];
+
+    private record Entry(String key, Long id, String username) {}
+
+    /**
+     * Replace the index contents.
+     *
+     * @param users every known user
+     */
+    public synchronized void rebuild(Collection<UserSuggestion> users) {
+        Entry[] rebuilt = new Entry[users.size()];
+        int i = 0;
+        for (UserSuggestion user : users) {
+            rebuilt[i++] = entry(user.getId(), user.getUsername());
+        }
+        Arrays.sort(rebuilt, ORDER);
+        entries = rebuilt;
+    }
+
+    /**
+     * Add or rename a user.
+     *
+     * @param id the user ID
+     * @param username the username
+     */
+    public synchronized void put(Long id, String username) {
+        Entry[] current = entries;
+        List<Entry> next = new ArrayList<>(current.length + 1);
+        for (Entry e : current) {
+            if (!e.id().equals(id)) {
+                next.add(e);
+            }
+        }
+        Entry added = entry(id, username);
+        int pos = Collections.binarySearch(next, added, ORDER);
+        next.add(pos >= 0 ? pos : -pos - 1, added);
+        entries = next.toArray(new Entry[0]);
+    }
+
+    /**
+     * Find users whose username starts with the given prefix, ignoring case.
+     *
+     * @param prefix the typed prefix
+     * @param limit maximum number of suggestions
+     * @return up to {@code limit} suggestions in alphabetical order
+     */
+    public List<UserSuggestion> suggest(String prefix, int limit) {
+        Entry[] snapshot = entries;
+        String key = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        List<UserSuggestion> result = new ArrayList<>(Math.min(limit, snapshot.length));
+        for (int i = lowerBound(snapshot, key); i < snapshot.length && result.size() < limit; i++) {
+            if (!snapshot[i].key().startsWith(key)) {
+                break;
+            }
+            result.add(new UserSuggestion(snapshot[i].id(), snapshot[i].username()));
+        }
+        return result;
+    }
+
+    /**
+     * Number of indexed users.
+     *
+     * @return entry count
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    private static int lowerBound(Entry[] sorted, String key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].key().compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static Entry entry(Long id, String username) {
+        return new Entry(username.toLowerCase(Locale.ROOT), id, username);
+    }
+}
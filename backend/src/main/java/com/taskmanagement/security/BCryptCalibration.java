@@ -0,0 +1,57 @@
+package com.taskmanagement.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt cost factor whose hashing time fits a latency budget on the current hardware.
+ * <p>
+ * Each BCrypt cost step doubles the work, so one timing at the minimum cost is enough to
+ * extrapolate the highest cost that still stays within the target.
+ */
+public final class BCryptCalibration {
+
+    private static final String PROBE = "calibration-probe";
+    private static final int SAMPLES = 3;
+
+    private BCryptCalibration() {
+    }
+
+    /**
+     * Times BCrypt at {@code minStrength} and extrapolates to the target.
+     *
+     * @param target hashing time to aim for
+     * @param minStrength lowest acceptable cost
+     * @param maxStrength highest cost to consider
+     * @return cost factor between {@code minStrength} and {@code maxStrength}
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(PROBE); // warm-up
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(PROBE);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return strengthFor(fastest, minStrength, maxStrength, target.toNanos());
+    }
+
+    /**
+     * @param nanosAtMin measured hashing time at {@code minStrength}
+     * @param minStrength lowest acceptable cost
+     * @param maxStrength highest cost to consider
+     * @param targetNanos hashing time to aim for
+     * @return highest cost whose extrapolated time does not exceed the target, never below the minimum
+     */
+    static int strengthFor(long nanosAtMin, int minStrength, int maxStrength, long targetNanos) {
+        int strength = minStrength;
+        long nanos = nanosAtMin;
+        while (strength < maxStrength && nanos * 2 <= targetNanos) {
+            strength++;
+            nanos *= 2;
+        }
+        return strength;
+    }
+}
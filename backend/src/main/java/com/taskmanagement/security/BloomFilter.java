@@ -0,0 +1,82 @@
+package com.taskmanagement.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings: {@link #mightContain} never misses an added value and is wrong
+ * about an absent one with probability of roughly 1% at the sized capacity (10 bits and 7 probes per
+ * value). Bits live in an {@link AtomicLongArray}, so reads need no locking while values are added.
+ * Values cannot be removed; callers rebuild the filter instead.
+ */
+public class BloomFilter {
+
+    private static final int BITS_PER_VALUE = 10;
+    private static final int PROBES = 7;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int capacity;
+
+    /**
+     * @param capacity number of values the filter is sized for
+     */
+    public BloomFilter(int capacity) {
+        this.capacity = Math.max(capacity, 64);
+        int wordCount = (int) Math.max(1, ((long) this.capacity * BITS_PER_VALUE + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+    }
+
+    /**
+     * @return number of values the filter is sized for
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        long step = mix(hash) | 1;
+        for (int i = 0; i < PROBES; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long step = mix(hash) | 1;
+        for (int i = 0; i < PROBES; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String value) {
+        // FNV-1a over the UTF-8 bytes, finalised with a MurmurHash3 mix
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,196 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.exception.TooManyRequestsException;
+import com.taskmanagement.service.UserDetailsServiceImpl.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits {@code /api/**} requests with a {@link TokenBucket} per caller.
+ * <p>
+ * Runs after {@link JwtAuthenticationFilter}, so authenticated requests are keyed by user ID and
+ * anonymous ones (login, registration) by client IP. Behind a reverse proxy the client IP comes from
+ * {@code X-Forwarded-For} through {@code server.forward-headers-strategy}; without it every anonymous
+ * caller would share the proxy's bucket. Each request takes a number of tokens given by the
+ * first matching {@code rate-limit.costs} rule ({@code METHOD /pattern=cost}, {@code *} for any method),
+ * so searches and writes drain the bucket faster than plain reads. Rejected requests get 429 with a
+ * Retry-After header through the regular exception handler.
+ * <p>
+ * At most {@code rate-limit.max-buckets} buckets are kept, in access order: a new caller evicts the one
+ * that has gone longest without a request, so callers never share a bucket. An evicted caller starts
+ * again with a full bucket, which only happens after {@code max-buckets} other callers have been seen
+ * since its last request. Buckets that have refilled completely are also swept periodically, which does
+ * not change any outcome.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    @Qualifier("handlerExceptionResolver")
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.capacity:100}")
+    private int capacity;
+
+    @Value("${rate-limit.refill-per-second:20}")
+    private double refillPerSecond;
+
+    @Value("${rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Value("${rate-limit.costs:}")
+    private List<String> costs;
+
+    private Map<String, TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<CostRule> costRules = new ArrayList<>();
+    private long nanosPerToken;
+    private Counter throttledUsers;
+    private Counter throttledAddresses;
+
+    @PostConstruct
+    void init() {
+        nanosPerToken = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxBuckets;
+            }
+        };
+        for (String rule : costs) {
+            if (!rule.isBlank()) {
+                costRules.add(CostRule.parse(rule.trim()));
+            }
+        }
+        throttledUsers = throttledCounter("user");
+        throttledAddresses = throttledCounter("ip");
+        Gauge.builder("rate.limit.buckets", this, RateLimitFilter::bucketCount)
+                .description("Callers currently tracked by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId = currentUserId();
+        String key = userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+        long now = System.nanoTime();
+        long waitNanos = bucketFor(key, now).tryConsume(costOf(request), now, nanosPerToken, capacity);
+        if (waitNanos > 0) {
+            (userId != null ? throttledUsers : throttledAddresses).increment();
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new TooManyRequestsException("Rate limit exceeded, please retry later", retryAfterSeconds));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Drop buckets that have refilled completely.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        synchronized (buckets) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    int bucketCount() {
+        synchronized (buckets) {
+            return buckets.size();
+        }
+    }
+
+    /**
+     * @param request the HTTP request
+     * @return tokens the request takes from its caller's bucket
+     */
+    int costOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        for (CostRule rule : costRules) {
+            if ((rule.method == null || rule.method.equals(method)) && pathMatcher.match(rule.pattern, path)) {
+                return rule.cost;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * @param key the caller key
+     * @param now current {@link System#nanoTime()}
+     * @return the caller's bucket, created full if the caller is new or was evicted
+     */
+    TokenBucket bucketFor(String key, long now) {
+        // the lock only covers the lookup; taking tokens is lock-free
+        synchronized (buckets) {
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+    }
+
+    private Counter throttledCounter(String keyType) {
+        return Counter.builder("rate.limit.throttled")
+                .description("Requests rejected with 429 by the rate limiter")
+                .tag("key", keyType)
+                .register(meterRegistry);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    private record CostRule(String method, String pattern, int cost) {
+
+        static CostRule parse(String rule) {
+            int space = rule.indexOf(' ');
+            int equals = rule.lastIndexOf('=');
+            if (space < 0 || equals < space) {
+                throw new IllegalArgumentException("Invalid rate-limit cost rule: " + rule);
+            }
+            String method = rule.substring(0, space).trim();
+            return new CostRule("*".equals(method) ? null : method,
+                    rule.substring(space + 1, equals).trim(),
+                    Integer.parseInt(rule.substring(equals + 1).trim()));
+        }
+    }
+}
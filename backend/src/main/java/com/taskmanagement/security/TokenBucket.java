@@ -0,0 +1,61 @@
+package com.taskmanagement.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket held in a single {@link AtomicLong}.
+ * <p>
+ * Instead of a token count and a last-refill time, the bucket stores the instant at which it would be
+ * full again (the "theoretical arrival time" of the generic cell rate algorithm). Taking {@code n}
+ * tokens pushes that instant {@code n * nanosPerToken} into the future; the request is allowed while
+ * it stays within {@code capacity * nanosPerToken} of now. One CAS per request, no refill thread, and
+ * the wait until enough tokens are back falls out of the same arithmetic.
+ * <p>
+ * Capacity and refill rate are passed in by the caller so a bucket costs one long per key.
+ */
+public class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param now current {@link System#nanoTime()}
+     */
+    public TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes {@code cost} tokens if available.
+     *
+     * @param cost tokens to take, at most {@code capacity}
+     * @param now current {@link System#nanoTime()}
+     * @param nanosPerToken refill interval of one token
+     * @param capacity bucket size in tokens
+     * @return 0 if the tokens were taken, otherwise nanoseconds until they will be available
+     */
+    public long tryConsume(int cost, long now, long nanosPerToken, int capacity) {
+        long burst = capacity * nanosPerToken;
+        long increment = Math.min(cost, capacity) * nanosPerToken;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + increment;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param now current {@link System#nanoTime()}
+     * @return whether the bucket has refilled completely, so dropping it is indistinguishable from keeping it
+     */
+    public boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
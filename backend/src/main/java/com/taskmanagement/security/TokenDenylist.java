@@ -0,0 +1,181 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.RevokedToken;
+import com.taskmanagement.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Revoked JWTs, keyed by their {@code jti} claim, checked on every authenticated request.
+ * <p>
+ * The common case, a token that was never revoked, is answered by a {@link BloomFilter} probe without
+ * touching the exact set or the database. Entries are evicted in expiry order once the token would have
+ * expired anyway, and the Bloom filter is rebuilt from the remaining entries when evictions or growth
+ * make it stale.
+ * <p>
+ * Revocations are written to {@code revoked_tokens} so they survive restarts. Every instance loads the
+ * unexpired rows on startup and then polls for rows revoked since its previous poll, which carries a
+ * logout on one replica to the others within {@code auth.revocation.poll-interval-ms}. A row becomes
+ * visible only when its transaction commits, which can be after rows with a higher ID or a later
+ * {@code revoked_at}, so each poll reaches back {@code auth.revocation.commit-margin-ms} before the
+ * previous one started; the margin must cover the slowest revocation commit and the clock skew
+ * between instances. Rows seen by an earlier poll are skipped in memory.
+ */
+@Component
+public class TokenDenylist {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenylist.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${auth.revocation.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${auth.revocation.initial-capacity:10000}")
+    private int initialCapacity;
+
+    @Value("${auth.revocation.commit-margin-ms:60000}")
+    private long commitMarginMs;
+
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> byExpiry = new ConcurrentSkipListSet<>();
+    private volatile BloomFilter bloom = new BloomFilter(0);
+    private volatile LocalDateTime revokedSince = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Load unexpired revocations once the schema is available.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuildBloom();
+        int loaded = poll();
+        logger.info("Loaded {} revoked token(s)", loaded);
+    }
+
+    /**
+     * Whether the token with the given ID has been revoked.
+     *
+     * @param jti the token ID, may be null for tokens issued without one
+     * @return true if revoked
+     */
+    public boolean isRevoked(String jti) {
+        return jti != null && bloom.mightContain(jti) && expiries.containsKey(jti);
+    }
+
+    /**
+     * Revoke a token until it expires.
+     *
+     * @param jti the token ID
+     * @param expiresAt the token's expiry
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now()) || isRevoked(jti)) {
+            return;
+        }
+        try {
+            revokedTokenRepository.save(new RevokedToken(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        } catch (DataIntegrityViolationException e) {
+            // revoked concurrently, here or on another instance
+        }
+        add(jti, expiresAt.toEpochMilli());
+    }
+
+    /**
+     * Pick up revocations written by other instances.
+     *
+     * @return number of new revocations
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.poll-interval-ms:5000}")
+    public int poll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int added = 0;
+        long afterId = 0;
+        List<RevokedToken> batch;
+        do {
+            batch = revokedTokenRepository.findRevokedSince(revokedSince, startedAt, afterId, PageRequest.of(0, batchSize));
+            for (RevokedToken token : batch) {
+                if (add(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())) {
+                    added++;
+                }
+                afterId = token.getId();
+            }
+        } while (batch.size() == batchSize);
+        revokedSince = startedAt.minusNanos(commitMarginMs * 1_000_000);
+        return added;
+    }
+
+    /**
+     * Drop expired entries in expiry order, then delete their rows.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        Entry first;
+        while ((first = byExpiry.pollFirst()) != null) {
+            if (first.expiresAt > now) {
+                byExpiry.add(first);
+                break;
+            }
+            expiries.remove(first.jti, first.expiresAt);
+            evicted++;
+        }
+        if (evicted > 0) {
+            rebuildBloom();
+        }
+        revokedTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    /**
+     * @return number of revoked, unexpired tokens held in memory
+     */
+    public int size() {
+        return expiries.size();
+    }
+
+    private synchronized boolean add(String jti, long expiresAt) {
+        if (expiries.putIfAbsent(jti, expiresAt) != null) {
+            return false;
+        }
+        byExpiry.add(new Entry(expiresAt, jti));
+        if (expiries.size() > bloom.getCapacity()) {
+            rebuildBloom();
+        } else {
+            bloom.add(jti);
+        }
+        return true;
+    }
+
+    private synchronized void rebuildBloom() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(initialCapacity, expiries.size() * 2));
+        expiries.keySet().forEach(rebuilt::add);
+        bloom = rebuilt;
+    }
+
+    private record Entry(long expiresAt, String jti) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTime = Long.compare(expiresAt, other.expiresAt);
+            return byTime != 0 ? byTime : jti.compareTo(other.jti);
+        }
+    }
+}
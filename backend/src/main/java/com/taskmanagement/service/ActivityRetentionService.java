@@ -0,0 +1,135 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.activity.ActivityArchive;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.repository.ActivityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Scheduled retention for the activity log.
+ * <p>
+ * Activities older than {@code activity.retention.days} are moved, one batch at a time, into the
+ * {@link ActivityArchive} and deleted from the {@code activities} table in the same transaction, so a
+ * failure at any point leaves every row readable exactly once. A batch that fails is retried task by
+ * task; the activities of a task that still cannot be archived stay in the table, are logged, and are
+ * skipped for the rest of the run, so one bad task cannot stop retention for the others. The job
+ * holds a {@link JobLockService} lease while it runs, so only one instance archives even though every
+ * instance schedules it.
+ */
+@Service
+public class ActivityRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityRetentionService.class);
+
+    static final String LOCK_NAME = "activity-retention";
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ActivityArchive activityArchive;
+
+    @Autowired
+    private JobLockService jobLockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${activity.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${activity.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${activity.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${activity.retention.lock-timeout-ms:3600000}")
+    private long lockTimeoutMs;
+
+    /**
+     * Archive and delete expired activities, unless another instance is already doing so.
+     *
+     * @return number of archived activities
+     */
+    @Scheduled(cron = "${activity.retention.cron:0 30 3 * * *}")
+    public int archiveExpired() {
+        if (!enabled) {
+            return 0;
+        }
+        if (!jobLockService.tryLock(LOCK_NAME, Duration.ofMillis(lockTimeoutMs))) {
+            logger.debug("Activity retention is running on another instance");
+            return 0;
+        }
+        try {
+            return archiveBatches();
+        } finally {
+            jobLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private int archiveBatches() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int archived = 0;
+        long afterId = 0;
+        while (true) {
+            List<Activity> batch = activityRepository.findByCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    cutoff, afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+            archived += archive(batch);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            logger.info("Archived {} activit(ies) older than {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    /**
+     * Archive a batch in one transaction, or task by task if that fails.
+     *
+     * @return number of archived activities
+     */
+    private int archive(List<Activity> batch) {
+        try {
+            return transactionTemplate.execute(status -> archiveInTransaction(batch));
+        } catch (RuntimeException e) {
+            logger.warn("Could not archive a batch of {} activit(ies); retrying task by task", batch.size(), e);
+        }
+        int archived = 0;
+        Map<Long, List<Activity>> byTask = batch.stream().collect(Collectors.groupingBy(Activity::getTaskId));
+        for (Map.Entry<Long, List<Activity>> task : byTask.entrySet()) {
+            try {
+                archived += transactionTemplate.execute(status -> archiveInTransaction(task.getValue()));
+            } catch (RuntimeException e) {
+                logger.error("Could not archive {} activit(ies) of task {}; leaving them in place",
+                        task.getValue().size(), task.getKey(), e);
+            }
+        }
+        return archived;
+    }
+
+    private int archiveInTransaction(List<Activity> activities) {
+        activityArchive.append(activities);
+        activityRepository.deleteAllByIdInBatch(activities.stream().map(Activity::getId).collect(Collectors.toList()));
+        return activities.size();
+    }
+}
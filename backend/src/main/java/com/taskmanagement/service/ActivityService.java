@@ -1,25 +1,129 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.activity.ActivityArchive;
+import com.taskmanagement.activity.RecentActivityBuffer;
 import com.taskmanagement.dto.ActivityCreateRequest;
+import com.taskmanagement.dto.ActivityPageResponse;
+import com.taskmanagement.dto.ActivityResponse;
 import com.taskmanagement.entity.Activity;
 import com.taskmanagement.entity.ActivityType;
+import com.taskmanagement.event.ActivityCreatedEvent;
 import com.taskmanagement.exception.EntityNotFoundException;
 import com.taskmanagement.repository.ActivityRepository;
+import com.taskmanagement.repository.ActivitySpecifications;
+import com.taskmanagement.repository.KeysetCursor;
 import com.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 public class ActivityService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ActivityService.class);
+
+    /** Largest page {@link #getFeed} will return. */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /** Number of newest activities kept in memory for feeds. */
+    static final int RECENT_CAPACITY = 2000;
+
     @Autowired
     private ActivityRepository activityRepository;
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private ActivityArchive activityArchive;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final RecentActivityBuffer recent = new RecentActivityBuffer(RECENT_CAPACITY);
+
+    /**
+     * Load the newest activities into memory. Called by {@link com.taskmanagement.activity.RecentActivitySink}
+     * when the instance starts.
+     */
+    public void loadRecent() {
+        List<Activity> newest = activityRepository.findBy(ActivitySpecifications.feed(null, null, null, null, null),
+                q -> q.sortBy(ActivitySpecifications.NEWEST_FIRST).limit(RECENT_CAPACITY).all());
+        recent.load(newest, newest.size() < RECENT_CAPACITY);
+        logger.info("Loaded {} recent activit(ies) into memory", newest.size());
+    }
+
+    /**
+     * Make newly written activities visible to feeds served from memory. Adding an activity that is
+     * already present replaces it.
+     *
+     * @param activities the written activities, with IDs assigned
+     */
+    public void addRecent(Collection<Activity> activities) {
+        recent.addAll(activities.stream().filter(a -> a.getId() != null).collect(Collectors.toList()));
+    }
+
+    /**
+     * Get one newest-first page of an activity feed. Pages that fall inside the in-memory window of
+     * recent activity are served without a query; older pages are read from the indexed table and,
+     * for a single task, continue into its archived history.
+     *
+     * @param taskId restrict to one task, or null
+     * @param actorId restrict to one actor, or null
+     * @param since earliest creation time, or null
+     * @param until latest creation time, or null
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param limit maximum page size
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ActivityPageResponse getFeed(Long taskId, Long actorId, LocalDateTime since, LocalDateTime until,
+                                        String after, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        KeysetCursor cursor = after == null || after.isBlank() ? null : KeysetCursor.decode(after);
+        Predicate<Activity> filter = a -> (taskId == null || taskId.equals(a.getTaskId()))
+                && (actorId == null || Objects.equals(actorId, a.getActorId()))
+                && (until == null || !a.getCreatedAt().isAfter(until));
+        List<Activity> rows = recent.find(filter, cursor, since, size + 1);
+        if (rows == null) {
+            rows = activityRepository.findBy(ActivitySpecifications.feed(taskId, actorId, since, until, cursor),
+                    q -> q.sortBy(ActivitySpecifications.NEWEST_FIRST).limit(size + 1).all());
+        }
+        if (rows.size() <= size && taskId != null && activityArchive.contains(taskId)) {
+            // The live table is exhausted for this task; continue into its archived history
+            KeysetCursor from = rows.isEmpty() ? cursor : cursorOf(rows.get(rows.size() - 1));
+            rows = continueFromArchive(rows, taskId, filter, since, from, size + 1);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = cursorOf(rows.get(size - 1)).encode();
+        }
+        return new ActivityPageResponse(rows.stream().map(ActivityResponse::new).collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * Record an activity. It reaches the in-memory feed of every instance, this one included, through
+     * the outbox.
+     *
+     * @param req the activity
+     * @return the saved activity
+     * @throws EntityNotFoundException if the task does not exist
+     */
+    @Transactional
     public Activity createActivity(ActivityCreateRequest req) {
         // validate task exists
         if (req.getTaskId() == null || !taskRepository.existsById(req.getTaskId())) {
@@ -27,13 +131,42 @@ public class ActivityService {
         }
 
         Activity a = new Activity(req.getTaskId(), req.getType() != null ? req.getType() : ActivityType.UPDATED, req.getActorId(), req.getActorName(), req.getDetail());
-        return activityRepository.save(a);
+        Activity saved = activityRepository.save(a);
+        eventPublisher.publishEvent(new ActivityCreatedEvent(saved));
+        return saved;
     }
 
     public List<Activity> getActivitiesForTask(Long taskId) {
         if (!taskRepository.existsById(taskId)) {
             throw new EntityNotFoundException("Task not found with ID: " + taskId);
         }
-        return activityRepository.findByTaskIdOrderByCreatedAtAsc(taskId);
+        List<Activity> live = activityRepository.findByTaskIdOrderByCreatedAtAsc(taskId);
+        if (!activityArchive.contains(taskId)) {
+            return live;
+        }
+        List<Activity> history = new ArrayList<>(activityArchive.read(taskId));
+        Set<Long> archivedIds = history.stream().map(Activity::getId).collect(Collectors.toSet());
+        live.stream().filter(a -> !archivedIds.contains(a.getId())).forEach(history::add);
+        return history;
+    }
+
+    private List<Activity> continueFromArchive(List<Activity> rows, Long taskId, Predicate<Activity> filter,
+                                               LocalDateTime since, KeysetCursor from, int max) {
+        List<Activity> merged = new ArrayList<>(rows);
+        Set<Long> seen = rows.stream().map(Activity::getId).collect(Collectors.toSet());
+        List<Activity> archived = activityArchive.read(taskId);
+        for (int i = archived.size() - 1; i >= 0 && merged.size() < max; i--) {
+            Activity a = archived.get(i);
+            boolean older = from == null || a.getCreatedAt().isBefore(from.value())
+                    || (a.getCreatedAt().isEqual(from.value()) && a.getId() < from.id());
+            if (older && filter.test(a) && (since == null || !a.getCreatedAt().isBefore(since)) && seen.add(a.getId())) {
+                merged.add(a);
+            }
+        }
+        return merged;
+    }
+
+    private static KeysetCursor cursorOf(Activity activity) {
+        return new KeysetCursor(activity.getCreatedAt(), activity.getId());
     }
 }
@@ -3,13 +3,21 @@ package com.taskmanagement.service;
 import com.taskmanagement.dto.CommentCreateRequest;
 import com.taskmanagement.entity.Comment;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.event.CommentChangedEvent;
 import com.taskmanagement.exception.EntityNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
 import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.KeysetCursor;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -25,6 +33,13 @@ public class CommentService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${comment.summary.refresh-on-startup:false}")
+    private boolean refreshSummariesOnStartup;
+
+    @Transactional
     public Comment createComment(CommentCreateRequest request, Long authorId) {
         // Validate task exists
         if (!taskRepository.existsById(request.getTaskId())) {
@@ -37,7 +52,47 @@ public class CommentService {
         }
 
         Comment comment = new Comment(request.getContent(), request.getTaskId(), authorId);
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        taskRepository.incrementCommentCount(saved.getTaskId(), saved.getCreatedAt());
+        eventPublisher.publishEvent(new CommentChangedEvent(null, new Comment(saved), authorId));
+        return saved;
+    }
+
+    /**
+     * Get one page of a task's comments, oldest first, paginated by a keyset on
+     * {@code (created_at, id)}.
+     *
+     * @param taskId the task ID
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param limit maximum page size
+     * @return up to {@code limit + 1} comments; an extra row means another page follows
+     * @throws EntityNotFoundException if the task does not exist
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public List<Comment> getCommentPage(Long taskId, String after, int limit) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new EntityNotFoundException("Task not found with ID: " + taskId);
+        }
+        Limit rows = Limit.of(limit + 1);
+        if (after == null || after.isBlank()) {
+            return commentRepository.findByTaskIdOrderByCreatedAtAscIdAsc(taskId, rows);
+        }
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        return commentRepository.findPageAfter(taskId, cursor.value(), cursor.id(), rows);
+    }
+
+    /**
+     * Recompute every task's comment count and newest comment time at startup, when
+     * {@code comment.summary.refresh-on-startup} is set. This rewrites every task row, so it is
+     * meant as a one-off repair after comments were written outside this service (for example
+     * an SQL import or a database upgraded from before the summary columns).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void refreshCommentSummaries() {
+        if (refreshSummariesOnStartup) {
+            taskRepository.refreshCommentSummaries();
+        }
     }
 
     public List<Comment> getCommentsByTaskId(Long taskId) {
@@ -47,6 +102,7 @@ public class CommentService {
         return commentRepository.findByTaskIdOrderByCreatedAtAsc(taskId);
     }
 
+    @Transactional
     public Comment updateComment(Long commentId, String content, Long userId) {
         Comment existing = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found with ID: " + commentId));
@@ -55,10 +111,14 @@ public class CommentService {
             throw new UnauthorizedException("Not authorized to update this comment");
         }
 
+        Comment previous = new Comment(existing);
         existing.setContent(content);
-        return commentRepository.save(existing);
+        Comment updated = commentRepository.save(existing);
+        eventPublisher.publishEvent(new CommentChangedEvent(previous, new Comment(updated), userId));
+        return updated;
     }
 
+    @Transactional
     public void deleteComment(Long commentId, Long userId, User requester) {
         Comment existing = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found with ID: " + commentId));
@@ -71,5 +131,7 @@ public class CommentService {
         }
 
         commentRepository.deleteById(commentId);
+        taskRepository.decrementCommentCount(existing.getTaskId());
+        eventPublisher.publishEvent(new CommentChangedEvent(new Comment(existing), null, userId));
     }
 }
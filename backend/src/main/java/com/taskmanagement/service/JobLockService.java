@@ -0,0 +1,52 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.JobLock;
+import com.taskmanagement.repository.JobLockRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Database leases that let a scheduled job run on one instance at a time. A lease expires on its own,
+ * so an instance that dies while holding one blocks the job only until the lease runs out.
+ */
+@Service
+public class JobLockService {
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    /**
+     * Take the named lease unless another instance holds it.
+     *
+     * @param name the job name
+     * @param duration how long the lease lasts unless released
+     * @return true if this instance now holds the lease
+     */
+    public boolean tryLock(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!jobLockRepository.existsById(name)) {
+            try {
+                jobLockRepository.save(new JobLock(name, now));
+            } catch (DataIntegrityViolationException e) {
+                // created concurrently by another instance
+            }
+        }
+        return jobLockRepository.acquire(name, owner, now, now.plus(duration)) == 1;
+    }
+
+    /**
+     * Release a lease taken with {@link #tryLock}.
+     *
+     * @param name the job name
+     */
+    public void unlock(String name) {
+        jobLockRepository.release(name, owner, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.activity.TaskDiff;
+import com.taskmanagement.dto.ActivityResponse;
+import com.taskmanagement.dto.CommentResponse;
+import com.taskmanagement.dto.SavedFilterResponse;
+import com.taskmanagement.dto.TaskEvent;
+import com.taskmanagement.dto.TaskResponse;
+import com.taskmanagement.dto.UserSuggestion;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.event.ActivityCreatedEvent;
+import com.taskmanagement.event.CommentChangedEvent;
+import com.taskmanagement.event.SavedFilterChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.UserCreatedEvent;
+import com.taskmanagement.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service writing task, comment, user, saved filter and activity changes to the outbox.
+ * <p>
+ * The listeners run synchronously inside the transaction that publishes the change, so an outbox row
+ * is committed if and only if the change itself is. Delivery to clients and other sinks is left to
+ * {@link com.taskmanagement.outbox.OutboxRelay}.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Record a task change as a {@link TaskEvent} payload.
+     *
+     * @param event the task change
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskEvent payload;
+        if (event.isDeleted()) {
+            // the last state tells sinks which views and counters the task leaves
+            payload = new TaskEvent("DELETED", new TaskResponse(event.getPrevious()));
+        } else if (event.isCreated()) {
+            payload = new TaskEvent("CREATED", new TaskResponse(event.getCurrent()));
+        } else {
+            payload = new TaskEvent("UPDATED", new TaskResponse(event.getCurrent()));
+            payload.setChanges(TaskDiff.between(event.getPrevious(), event.getCurrent()));
+        }
+        payload.setActorId(event.getActorId());
+        append(OutboxEvent.TASK, event.getTaskId(), payload.getAction(), payload);
+    }
+
+    /**
+     * Record a comment change as a {@link CommentResponse} payload.
+     *
+     * @param event the comment change
+     */
+    @EventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        String type = event.getPrevious() == null ? "CREATED" : event.getCurrent() == null ? "DELETED" : "UPDATED";
+        CommentResponse payload = new CommentResponse(event.getCurrent() != null ? event.getCurrent() : event.getPrevious());
+        append(OutboxEvent.COMMENT, payload.getId(), type, payload);
+    }
+
+    /**
+     * Record a new user as a {@link UserSuggestion} payload.
+     *
+     * @param event the user creation
+     */
+    @EventListener
+    public void onUserCreated(UserCreatedEvent event) {
+        append(OutboxEvent.USER, event.getUserId(), "CREATED", new UserSuggestion(event.getUserId(), event.getUsername()));
+    }
+
+    /**
+     * Record a created or deleted saved filter as a {@link SavedFilterResponse} payload.
+     *
+     * @param event the saved filter change
+     */
+    @EventListener
+    public void onSavedFilterChanged(SavedFilterChangedEvent event) {
+        SavedFilterResponse payload = event.getFilter();
+        append(OutboxEvent.SAVED_FILTER, payload.getId(), event.isDeleted() ? "DELETED" : "CREATED", payload);
+    }
+
+    /**
+     * Record a directly created activity as an {@link ActivityResponse} payload.
+     *
+     * @param event the activity creation
+     */
+    @EventListener
+    public void onActivityCreated(ActivityCreatedEvent event) {
+        Activity activity = event.getActivity();
+        append(OutboxEvent.ACTIVITY, activity.getId(), "CREATED", new ActivityResponse(activity));
+    }
+
+    private void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType,
+                    objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+}
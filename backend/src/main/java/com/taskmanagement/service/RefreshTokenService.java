@@ -0,0 +1,136 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.RefreshToken;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.repository.RefreshTokenRepository;
+import com.taskmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens.
+ * <p>
+ * Clients receive 256 random bits; only their SHA-256 hash is stored, looked up through a unique index.
+ * Every refresh consumes the presented token and issues a successor in the same family. A token
+ * presented after it was consumed or revoked means it leaked (or a race between two clients), so the
+ * whole family is revoked and the user has to sign in again.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.refresh-expiration:1209600}")
+    private long refreshExpirationSeconds;
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Result of a successful refresh.
+     *
+     * @param user the token owner
+     * @param refreshToken the successor refresh token
+     */
+    public record Rotation(User user, String refreshToken) {}
+
+    /**
+     * Start a new token family for a user who just signed in.
+     *
+     * @param user the user
+     * @return the refresh token to hand to the client
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user.getId(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consume a refresh token and issue its successor.
+     *
+     * @param rawToken the refresh token presented by the client
+     * @return the owner and the successor token
+     * @throws UnauthorizedException if the token is unknown, expired, or reused
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+        if (!token.getExpiresAt().isAfter(now)) {
+            throw new UnauthorizedException("Refresh token has expired");
+        }
+        if (token.getUsedAt() != null || token.getRevokedAt() != null
+                || refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            logger.warn("Refresh token reuse for user {}, revoked {} token(s) of family {}",
+                    token.getUserId(), revoked, token.getFamilyId());
+            throw new UnauthorizedException("Refresh token has already been used");
+        }
+        User user = userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+        return new Rotation(user, issue(user.getId(), token.getFamilyId()));
+    }
+
+    /**
+     * Revoke the family of a refresh token, e.g. on logout. Unknown tokens are ignored.
+     *
+     * @param rawToken the refresh token presented by the client
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * Delete expired refresh tokens.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-prune-interval-ms:3600000}")
+    public void pruneExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.debug("Pruned {} expired refresh token(s)", deleted);
+        }
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(userId, familyId, hash(rawToken),
+                LocalDateTime.now().plusSeconds(refreshExpirationSeconds)));
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
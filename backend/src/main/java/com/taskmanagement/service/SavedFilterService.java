@@ -0,0 +1,306 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.activity.TaskDiff;
+import com.taskmanagement.dto.SavedFilterDelta;
+import com.taskmanagement.dto.SavedFilterRequest;
+import com.taskmanagement.dto.SavedFilterResponse;
+import com.taskmanagement.dto.TaskEvent;
+import com.taskmanagement.dto.TaskFilter;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.SavedFilter;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.SavedFilterChangedEvent;
+import com.taskmanagement.exception.EntityNotFoundException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.outbox.OutboxSink;
+import com.taskmanagement.repository.SavedFilterRepository;
+import com.taskmanagement.repository.TaskSpecifications;
+import com.taskmanagement.search.SavedFilterIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for saved task filters and their live views.
+ * <p>
+ * Each saved filter is materialized into the set of matching task IDs held by a
+ * {@link SavedFilterIndex}: all of them when the instance starts, and each new one when it is created,
+ * on the instance creating it right away (task changes relayed while its membership query runs are
+ * recorded and replayed over the result, and the view only goes live once the filter commits) and on
+ * the others when its outbox event arrives. The service is a per-instance {@link OutboxSink}: relayed
+ * task changes are routed only to the filters they could affect, and every membership change is pushed
+ * to {@code /topic/saved-filters/{filterId}} as a {@link SavedFilterDelta}, so reading a view never
+ * re-runs its query. A change is applied by re-evaluating the task against each candidate filter, so
+ * replaying changes a materialization already saw is harmless.
+ */
+@Service
+public class SavedFilterService implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedFilterService.class);
+
+    @Autowired
+    private SavedFilterRepository savedFilterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SavedFilterIndex index = new SavedFilterIndex();
+
+    @Override
+    public String name() {
+        return "saved-filters";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public boolean loadsState() {
+        return true;
+    }
+
+    /**
+     * Materialize every saved filter.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void load() {
+        index.clear();
+        List<SavedFilter> filters = savedFilterRepository.findAll();
+        for (SavedFilter savedFilter : filters) {
+            TaskFilter filter = readFilter(savedFilter);
+            index.register(savedFilter.getId(), filter, matchingTaskIds(filter));
+        }
+        logger.info("Materialized {} saved filter(s)", filters.size());
+    }
+
+    /**
+     * Save a filter for a user and materialize its view.
+     *
+     * @param request the filter name and criteria
+     * @param ownerId the owning user ID
+     * @return the saved filter
+     */
+    @Transactional
+    public SavedFilterResponse createFilter(SavedFilterRequest request, Long ownerId) {
+        TaskFilter filter = request.getFilter();
+        // Views are unordered and unbounded; paging options do not apply.
+        filter.setAfter(null);
+        SavedFilter saved = savedFilterRepository.save(new SavedFilter(ownerId, request.getName(), writeFilter(filter)));
+        // Record task changes from before the membership query; the view goes live once the filter commits.
+        index.begin(saved.getId(), filter);
+        List<Long> taskIds = matchingTaskIds(filter);
+        afterCompletion(() -> index.complete(saved.getId(), taskIds), () -> index.unregister(saved.getId()));
+        SavedFilterResponse response = toResponse(saved, filter, taskIds.size());
+        eventPublisher.publishEvent(new SavedFilterChangedEvent(response, false));
+        return response;
+    }
+
+    /**
+     * Get the saved filters of a user.
+     *
+     * @param ownerId the owning user ID
+     * @return list of saved filters ordered by name
+     */
+    public List<SavedFilterResponse> getFilters(Long ownerId) {
+        return savedFilterRepository.findByOwnerIdOrderByNameAsc(ownerId).stream()
+                .map(f -> {
+                    Set<Long> members = index.members(f.getId());
+                    return toResponse(f, readFilter(f), members == null ? 0 : members.size());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the current task IDs of a saved filter's view from memory.
+     *
+     * @param filterId the saved filter ID
+     * @param userId the requesting user ID
+     * @return the view, with every member listed as added
+     * @throws EntityNotFoundException if the filter does not exist
+     * @throws UnauthorizedException if the user does not own the filter
+     */
+    public SavedFilterDelta getView(Long filterId, Long userId) {
+        SavedFilter savedFilter = getOwnedFilter(filterId, userId);
+        Set<Long> members = index.members(savedFilter.getId());
+        List<Long> taskIds = members == null ? List.of() : members.stream().sorted().collect(Collectors.toList());
+        return new SavedFilterDelta(filterId, taskIds, List.of());
+    }
+
+    /**
+     * Delete a saved filter and drop its view.
+     *
+     * @param filterId the saved filter ID
+     * @param userId the requesting user ID
+     * @throws EntityNotFoundException if the filter does not exist
+     * @throws UnauthorizedException if the user does not own the filter
+     */
+    @Transactional
+    public void deleteFilter(Long filterId, Long userId) {
+        SavedFilter savedFilter = getOwnedFilter(filterId, userId);
+        savedFilterRepository.delete(savedFilter);
+        eventPublisher.publishEvent(new SavedFilterChangedEvent(toResponse(savedFilter, readFilter(savedFilter), 0), true));
+        afterCompletion(() -> index.unregister(filterId), () -> {});
+    }
+
+    /**
+     * Update the views affected by relayed task changes and broadcast their deltas, and materialize or
+     * drop the views of filters created or deleted on other instances.
+     *
+     * @param events the outbox events
+     */
+    @Override
+    public void deliver(List<OutboxEvent> events) throws Exception {
+        for (OutboxEvent event : events) {
+            boolean deleted = "DELETED".equals(event.getEventType());
+            if (OutboxEvent.SAVED_FILTER.equals(event.getAggregateType())) {
+                SavedFilterResponse savedFilter = objectMapper.readValue(event.getPayload(), SavedFilterResponse.class);
+                if (deleted) {
+                    index.unregister(savedFilter.getId());
+                } else if (index.members(savedFilter.getId()) == null) {
+                    index.register(savedFilter.getId(), savedFilter.getFilter(), matchingTaskIds(savedFilter.getFilter()));
+                }
+            } else if (OutboxEvent.TASK.equals(event.getAggregateType())) {
+                TaskEvent payload = objectMapper.readValue(event.getPayload(), TaskEvent.class);
+                if (payload.getTask() == null) {
+                    continue;
+                }
+                Task task = objectMapper.convertValue(payload.getTask(), Task.class);
+                if (deleted) {
+                    publish(index.apply(task, null));
+                } else {
+                    publish(index.apply(payload.getChanges() == null ? null : previousOf(task, payload.getChanges()), task));
+                }
+            }
+        }
+    }
+
+    private void publish(List<SavedFilterIndex.Delta> changes) {
+        Map<Long, List<SavedFilterIndex.Delta>> byFilter = changes.stream()
+                .collect(Collectors.groupingBy(SavedFilterIndex.Delta::filterId));
+        byFilter.forEach((filterId, deltas) -> {
+            List<Long> added = new ArrayList<>();
+            List<Long> removed = new ArrayList<>();
+            for (SavedFilterIndex.Delta delta : deltas) {
+                (delta.added() ? added : removed).add(delta.taskId());
+            }
+            try {
+                messagingTemplate.convertAndSend("/topic/saved-filters/" + filterId,
+                        new SavedFilterDelta(filterId, added, removed));
+            } catch (Exception ignored) {}
+        });
+    }
+
+    /**
+     * Recover the fields an update changed that the index routes by, so the update reaches the views
+     * the task may be leaving.
+     *
+     * @param current the task after the update
+     * @param changes the changes of the update
+     * @return the task with its previous status, priority and assignee
+     */
+    private static Task previousOf(Task current, List<TaskDiff.Change> changes) {
+        Task previous = new Task(current);
+        for (TaskDiff.Change change : changes) {
+            Object from = change.from();
+            switch (change.field()) {
+                case "status" -> previous.setStatus(TaskStatus.valueOf(String.valueOf(from)));
+                case "priority" -> previous.setPriority(Priority.valueOf(String.valueOf(from)));
+                case "assigneeId" -> previous.setAssigneeId(from == null ? null : ((Number) from).longValue());
+                default -> {}
+            }
+        }
+        return previous;
+    }
+
+    private SavedFilter getOwnedFilter(Long filterId, Long userId) {
+        SavedFilter savedFilter = savedFilterRepository.findById(filterId)
+                .orElseThrow(() -> new EntityNotFoundException("Saved filter not found with id: " + filterId));
+        if (!savedFilter.getOwnerId().equals(userId)) {
+            throw new UnauthorizedException("You can only access your own saved filters");
+        }
+        return savedFilter;
+    }
+
+    /**
+     * Run one of the callbacks once the current transaction commits or rolls back, or the first one
+     * immediately outside a transaction.
+     */
+    private static void afterCompletion(Runnable committed, Runnable rolledBack) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                (status == STATUS_COMMITTED ? committed : rolledBack).run();
+            }
+        });
+    }
+
+    private List<Long> matchingTaskIds(TaskFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        Predicate predicate = TaskSpecifications.fromFilter(filter).toPredicate(root, query, cb);
+        query.select(root.get("id"));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private TaskFilter readFilter(SavedFilter savedFilter) {
+        try {
+            return objectMapper.readValue(savedFilter.getDefinition(), TaskFilter.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid saved filter definition: " + savedFilter.getId(), e);
+        }
+    }
+
+    private String writeFilter(TaskFilter filter) {
+        try {
+            return objectMapper.writeValueAsString(filter);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid filter", e);
+        }
+    }
+
+    private SavedFilterResponse toResponse(SavedFilter savedFilter, TaskFilter filter, int size) {
+        return new SavedFilterResponse(savedFilter.getId(), savedFilter.getOwnerId(), savedFilter.getName(),
+                filter, size, savedFilter.getCreatedAt());
+    }
+}
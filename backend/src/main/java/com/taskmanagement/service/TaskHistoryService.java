@@ -0,0 +1,183 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskmanagement.dto.TaskHistoryResponse;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskHistoryEvent;
+import com.taskmanagement.entity.TaskSnapshot;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.exception.EntityNotFoundException;
+import com.taskmanagement.history.TaskState;
+import com.taskmanagement.repository.TaskHistoryEventRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Service keeping an append-only, versioned history of every task.
+ * <p>
+ * Each change is recorded synchronously inside the transaction that makes it, as an event holding the
+ * new values of the fields it touched. The full state is snapshotted at version 1 and every
+ * {@code task.history.snapshot-interval} versions after that, so rebuilding any version reads one
+ * snapshot and fewer than that many events.
+ */
+@Service
+public class TaskHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryService.class);
+
+    private static final TypeReference<LinkedHashMap<String, Object>> FIELDS = new TypeReference<>() {};
+
+    @Autowired
+    private TaskHistoryEventRepository eventRepository;
+
+    @Autowired
+    private TaskSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${task.history.snapshot-interval:100}")
+    private int snapshotInterval;
+
+    /**
+     * Record a baseline version for tasks that predate the history, using their current state.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recordBaselines() {
+        List<Task> tasks = taskRepository.findWithoutHistory();
+        for (Task task : tasks) {
+            TaskState state = TaskState.of(task);
+            append(task.getId(), 1, TaskHistoryEvent.CREATED, toFields(state), state, null,
+                    task.getUpdatedAt() != null ? task.getUpdatedAt() : LocalDateTime.now());
+        }
+        if (!tasks.isEmpty()) {
+            logger.info("Recorded baseline history for {} task(s)", tasks.size());
+        }
+    }
+
+    /**
+     * Append a task change to its history.
+     *
+     * @param event the task change
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Long taskId = event.getTaskId();
+        Long latest = eventRepository.findLatestVersion(taskId);
+        long version = latest != null ? latest + 1 : 1;
+
+        TaskState state;
+        Map<String, Object> changes;
+        String type;
+        if (event.isDeleted()) {
+            state = TaskState.of(event.getPrevious());
+            state.setDeleted(true);
+            changes = Map.of("deleted", true);
+            type = TaskHistoryEvent.DELETED;
+        } else if (event.isCreated() || latest == null) {
+            state = TaskState.of(event.getCurrent());
+            changes = toFields(state);
+            type = TaskHistoryEvent.CREATED;
+        } else {
+            state = TaskState.of(event.getCurrent());
+            changes = toFields(state);
+            Map<String, Object> before = toFields(TaskState.of(event.getPrevious()));
+            changes.entrySet().removeIf(e -> Objects.equals(e.getValue(), before.get(e.getKey())));
+            if (changes.isEmpty()) {
+                return;
+            }
+            type = TaskHistoryEvent.UPDATED;
+        }
+        append(taskId, version, type, changes, state, event.getActorId(), LocalDateTime.now());
+    }
+
+    /**
+     * Reconstruct a task as it was at the given time.
+     *
+     * @param taskId the task ID
+     * @param at the point in time
+     * @return the latest version recorded at or before {@code at}
+     */
+    @Transactional(readOnly = true)
+    public TaskHistoryResponse getStateAt(Long taskId, LocalDateTime at) {
+        TaskHistoryEvent target = eventRepository.findTopByTaskIdAndOccurredAtLessThanEqualOrderByVersionDesc(taskId, at)
+                .orElseThrow(() -> new EntityNotFoundException("No history for task " + taskId + " at " + at));
+        return reconstruct(target);
+    }
+
+    /**
+     * Reconstruct a task at one version of its history.
+     *
+     * @param taskId the task ID
+     * @param version the version
+     * @return the state at that version
+     */
+    @Transactional(readOnly = true)
+    public TaskHistoryResponse getStateAtVersion(Long taskId, long version) {
+        TaskHistoryEvent target = eventRepository.findByTaskIdAndVersion(taskId, version)
+                .orElseThrow(() -> new EntityNotFoundException("No version " + version + " for task " + taskId));
+        return reconstruct(target);
+    }
+
+    private TaskHistoryResponse reconstruct(TaskHistoryEvent target) {
+        Long taskId = target.getTaskId();
+        TaskSnapshot snapshot = snapshotRepository
+                .findTopByTaskIdAndVersionLessThanEqualOrderByVersionDesc(taskId, target.getVersion())
+                .orElse(null);
+        try {
+            TaskState state = snapshot != null
+                    ? objectMapper.readValue(snapshot.getState(), TaskState.class)
+                    : new TaskState();
+            long from = snapshot != null ? snapshot.getVersion() + 1 : 1;
+            if (from <= target.getVersion()) {
+                ObjectReader reader = objectMapper.readerForUpdating(state);
+                for (String changes : eventRepository.findChangesBetween(taskId, from, target.getVersion())) {
+                    reader.readValue(changes);
+                }
+            }
+            return new TaskHistoryResponse(taskId, target.getVersion(), target.getOccurredAt(),
+                    target.getActorId(), state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt history for task " + taskId, e);
+        }
+    }
+
+    private void append(Long taskId, long version, String type, Map<String, Object> changes, TaskState state,
+                        Long actorId, LocalDateTime occurredAt) {
+        try {
+            eventRepository.save(new TaskHistoryEvent(taskId, version, type,
+                    objectMapper.writeValueAsString(changes), actorId, occurredAt));
+            if (version == 1 || version % snapshotInterval == 0) {
+                snapshotRepository.save(new TaskSnapshot(taskId, version,
+                        objectMapper.writeValueAsString(state), occurredAt));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task history", e);
+        }
+    }
+
+    private Map<String, Object> toFields(TaskState state) {
+        return objectMapper.convertValue(state, FIELDS);
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.CommentResponse;
+import com.taskmanagement.dto.TaskEvent;
+import com.taskmanagement.dto.TaskResponse;
+import com.taskmanagement.dto.TaskSearchResponse;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.outbox.OutboxSink;
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.search.IndexedText;
+import com.taskmanagement.search.TaskSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service for full-text search over task titles, descriptions and comments.
+ * <p>
+ * The {@link TaskSearchIndex} is rebuilt when the instance starts by streaming projections of every
+ * task and comment row, then kept current as a per-instance {@link OutboxSink}, so every instance
+ * indexes changes made on any of them. Indexing replaces a task's or comment's text and removal is
+ * idempotent, so changes the rebuild already saw can safely be applied again.
+ */
+@Service
+public class TaskSearchService implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Override
+    public String name() {
+        return "search";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public boolean loadsState() {
+        return true;
+    }
+
+    /**
+     * Rebuild the index from the database, streaming rows rather than loading them all at once.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void load() {
+        index.clear();
+        long tasks = 0;
+        long comments = 0;
+        try (Stream<IndexedText> rows = taskRepository.streamSearchableText()) {
+            for (IndexedText row : (Iterable<IndexedText>) rows::iterator) {
+                index.indexTask(row.getTaskId(), row.getPrimary(), row.getSecondary());
+                tasks++;
+            }
+        }
+        entityManager.clear();
+        try (Stream<IndexedText> rows = commentRepository.streamSearchableText()) {
+            for (IndexedText row : (Iterable<IndexedText>) rows::iterator) {
+                index.indexComment(row.getTaskId(), row.getId(), row.getPrimary());
+                comments++;
+            }
+        }
+        logger.info("Search index rebuilt from {} task(s) and {} comment(s)", tasks, comments);
+    }
+
+    /**
+     * Search tasks by free text.
+     *
+     * @param query the query text
+     * @param page zero-based page number
+     * @param size page size
+     * @return the ranked page of matching tasks
+     */
+    public TaskSearchResponse search(String query, int page, int size) {
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        TaskSearchIndex.Result result = index.search(query, offset, size);
+        List<Long> ids = result.hits().stream().map(TaskSearchIndex.Hit::taskId).collect(Collectors.toList());
+        Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskSearchResponse.Hit> hits = new ArrayList<>(ids.size());
+        for (TaskSearchIndex.Hit hit : result.hits()) {
+            Task task = tasks.get(hit.taskId());
+            if (task != null) {
+                hits.add(new TaskSearchResponse.Hit(hit.score(), new TaskResponse(task)));
+            }
+        }
+        return new TaskSearchResponse(query, page, size, result.total(), hits);
+    }
+
+    /**
+     * Apply relayed task and comment changes to the index. A task is re-indexed when it is created or
+     * its title or description changed.
+     *
+     * @param events the outbox events
+     */
+    @Override
+    public void deliver(List<OutboxEvent> events) throws Exception {
+        for (OutboxEvent event : events) {
+            boolean deleted = "DELETED".equals(event.getEventType());
+            if (OutboxEvent.TASK.equals(event.getAggregateType())) {
+                if (deleted) {
+                    index.removeTask(event.getAggregateId());
+                    continue;
+                }
+                TaskEvent payload = objectMapper.readValue(event.getPayload(), TaskEvent.class);
+                if (payload.getChanges() == null || payload.getChanges().stream()
+                        .anyMatch(c -> c.field().equals("title") || c.field().equals("description"))) {
+                    TaskResponse task = payload.getTask();
+                    index.indexTask(task.getId(), task.getTitle(), task.getDescription());
+                }
+            } else if (OutboxEvent.COMMENT.equals(event.getAggregateType())) {
+                CommentResponse comment = objectMapper.readValue(event.getPayload(), CommentResponse.class);
+                if (deleted) {
+                    index.removeComment(comment.getTaskId(), comment.getId());
+                } else {
+                    index.indexComment(comment.getTaskId(), comment.getId(), comment.getContent());
+                }
+            }
+        }
+    }
+}
@@ -1,22 +1,47 @@
 package com.taskmanagement.service;
 
 import com.taskmanagement.dto.TaskCreateRequest;
+import com.taskmanagement.dto.TaskFilter;
+import com.taskmanagement.dto.TaskPageResponse;
 import com.taskmanagement.dto.TaskUpdateRequest;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.entity.Priority;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.exception.ConflictException;
 import com.taskmanagement.exception.EntityNotFoundException;
+import com.taskmanagement.exception.PreconditionFailedException;
 import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.repository.TaskFieldSet;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskSpecifications;
 import com.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import com.taskmanagement.dto.TaskEvent;
+import org.springframework.transaction.annotation.Transactional;
 import com.taskmanagement.dto.TaskResponse;
+import com.taskmanagement.dto.TaskRevision;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Task entity operations.
@@ -24,6 +49,9 @@ import java.util.Optional;
 @Service
 public class TaskService {
 
+    /** Largest page {@link #queryTasks(TaskFilter)} will return. */
+    public static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -31,7 +59,10 @@ public class TaskService {
     private UserRepository userRepository;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
 
     /**
      * Create a new task.
@@ -40,6 +71,7 @@ public class TaskService {
      * @param creatorId the ID of the user creating the task
      * @return the created task
      */
+    @Transactional
     public Task createTask(TaskCreateRequest taskRequest, Long creatorId) {
         // Validate that creator exists
         if (!userRepository.existsById(creatorId)) {
@@ -62,10 +94,7 @@ public class TaskService {
     task.setDueDate(taskRequest.getDueDate());
 
         Task saved = taskRepository.save(task);
-        // broadcast created event
-        try {
-            messagingTemplate.convertAndSend("/topic/tasks", new TaskEvent("CREATED", new TaskResponse(saved)));
-        } catch (Exception ignored) {}
+        eventPublisher.publishEvent(new TaskChangedEvent(null, new Task(saved), creatorId));
         return saved;
     }
 
@@ -79,7 +108,32 @@ public class TaskService {
      * @throws EntityNotFoundException if task not found
      * @throws UnauthorizedException if user not authorized
      */
+    @Transactional
     public Task updateTask(Long taskId, TaskUpdateRequest taskRequest, Long userId) {
+        return updateTask(taskId, taskRequest, userId, null);
+    }
+
+    /**
+     * Update an existing task if it is still at the expected version.
+     * <p>
+     * The task is read first because the authorization check and the change event need its current
+     * state; the write is then a single versioned {@code UPDATE ... WHERE id = ? AND version = ?} on the
+     * version that was read and checked, so a concurrent edit committed in between fails the update
+     * instead of being overwritten. Comments do not change the version, and their summary columns are
+     * not written by the update.
+     *
+     * @param taskId the ID of the task to update
+     * @param taskRequest the task update request
+     * @param userId the ID of the user updating the task
+     * @param expectedVersion the version the client last saw, or null to update whatever is current
+     * @return the updated task
+     * @throws EntityNotFoundException if task not found
+     * @throws UnauthorizedException if user not authorized
+     * @throws PreconditionFailedException if the task is not at the expected version
+     * @throws ConflictException if the task changed concurrently and no version was expected
+     */
+    @Transactional
+    public Task updateTask(Long taskId, TaskUpdateRequest taskRequest, Long userId, Long expectedVersion) {
         Task existingTask = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + taskId));
 
@@ -88,12 +142,15 @@ public class TaskService {
             (existingTask.getAssigneeId() == null || !existingTask.getAssigneeId().equals(userId))) {
             throw new UnauthorizedException("Not authorized to update this task");
         }
+        checkVersion(existingTask, expectedVersion);
 
         // Validate assignee if provided
         if (taskRequest.getAssigneeId() != null && !userRepository.existsById(taskRequest.getAssigneeId())) {
             throw new EntityNotFoundException("Assignee user not found with ID: " + taskRequest.getAssigneeId());
         }
 
+        Task previous = new Task(existingTask);
+
         // Update task fields
         existingTask.setTitle(taskRequest.getTitle());
         existingTask.setDescription(taskRequest.getDescription());
@@ -102,10 +159,13 @@ public class TaskService {
         existingTask.setAssigneeId(taskRequest.getAssigneeId());
     existingTask.setDueDate(taskRequest.getDueDate());
 
-        Task updated = taskRepository.save(existingTask);
+        Task updated;
         try {
-            messagingTemplate.convertAndSend("/topic/tasks", new TaskEvent("UPDATED", new TaskResponse(updated)));
-        } catch (Exception ignored) {}
+            updated = taskRepository.saveAndFlush(existingTask);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw concurrentModification(taskId, expectedVersion);
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(previous, new Task(updated), userId));
         return updated;
     }
 
@@ -180,24 +240,132 @@ public class TaskService {
 
     /**
      * Get tasks filtered by optional status and optional assignee.
-     * If assigneeId is null and includeUnassigned is true, unassigned tasks are returned.
-     * If assigneeId provided, tasks for that assignee are returned (optionally filtered by status).
-     * If status provided but assigneeId not provided, returns tasks by status.
+     * If assigneeId is provided, tasks for that assignee are returned (optionally filtered by status).
+     * Otherwise, if unassignedOnly is true, unassigned tasks are returned (optionally filtered by status).
+     * Otherwise tasks are filtered by status only, or all tasks are returned.
      */
     public List<Task> getTasksFiltered(TaskStatus status, Long assigneeId, boolean unassignedOnly) {
-        if (assigneeId != null) {
-            if (status != null) return taskRepository.findByAssigneeIdAndStatus(assigneeId, status);
-            return taskRepository.findByAssigneeId(assigneeId);
+        return taskRepository.findAll(TaskSpecifications.fromFilter(simpleFilter(status, assigneeId, unassignedOnly)));
+    }
+
+    /**
+     * Get the requested fields of the tasks matching {@link #getTasksFiltered(TaskStatus, Long, boolean)},
+     * selecting only those columns.
+     *
+     * @param status optional status filter
+     * @param assigneeId optional assignee filter
+     * @param unassignedOnly whether to select only unassigned tasks when no assignee is given
+     * @param fields the columns to select
+     * @return one map of field name to value per task
+     */
+    public List<Map<String, Object>> getTasksFiltered(TaskStatus status, Long assigneeId, boolean unassignedOnly,
+                                                      TaskFieldSet fields) {
+        return selectFields(TaskSpecifications.fromFilter(simpleFilter(status, assigneeId, unassignedOnly)), fields);
+    }
+
+    /**
+     * Get the requested fields of one task, selecting only those columns.
+     *
+     * @param taskId the task ID
+     * @param fields the columns to select
+     * @return map of field name to value, or empty if the task does not exist
+     */
+    public Optional<Map<String, Object>> findFields(Long taskId, TaskFieldSet fields) {
+        Specification<Task> byId = (root, query, cb) -> cb.equal(root.get("id"), taskId);
+        return selectFields(byId, fields).stream().findFirst();
+    }
+
+    private List<Map<String, Object>> selectFields(Specification<Task> specification, TaskFieldSet fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        query.multiselect(fields.fields().stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList());
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields.fields()) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
         }
+        return rows;
+    }
 
-        if (unassignedOnly) {
-            if (status != null) return taskRepository.findByStatusAndAssigneeIdIsNull(status);
-            return taskRepository.findByAssigneeIdIsNull();
+    /**
+     * Compute a weak ETag for {@link #getTasksFiltered(TaskStatus, Long, boolean)} from one aggregate
+     * query, without loading the tasks.
+     * <p>
+     * The tag combines the row count, newest update time, and the sums of IDs, versions and comment
+     * versions of the matching tasks with a hash of the filter. Any insert, update, delete or comment change on a
+     * matching task, or a task entering or leaving the filter, changes at least one of them.
+     *
+     * @param status optional status filter
+     * @param assigneeId optional assignee filter
+     * @param unassignedOnly whether to select only unassigned tasks when no assignee is given
+     * @return the weak ETag of the list
+     */
+    public String getTasksFilteredETag(TaskStatus status, Long assigneeId, boolean unassignedOnly) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Predicate predicate = TaskSpecifications.fromFilter(simpleFilter(status, assigneeId, unassignedOnly))
+                .toPredicate(root, query, cb);
+        query.multiselect(cb.count(root), cb.greatest(root.<LocalDateTime>get("updatedAt")),
+                cb.sumAsLong(root.get("version")), cb.sumAsLong(root.get("id")),
+                cb.sumAsLong(root.get("commentVersion")));
+        if (predicate != null) {
+            query.where(predicate);
         }
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        LocalDateTime newest = row.get(1, LocalDateTime.class);
+        return "W/\"" + row.get(0, Long.class)
+                + "-" + (newest != null ? newest.toInstant(ZoneOffset.UTC).toEpochMilli() : 0)
+                + "-" + Objects.requireNonNullElse(row.get(2, Long.class), 0L)
+                + "-" + Objects.requireNonNullElse(row.get(3, Long.class), 0L)
+                + "-" + Objects.requireNonNullElse(row.get(4, Long.class), 0L)
+                + "-" + Integer.toHexString(Objects.hash(status, assigneeId, unassignedOnly)) + "\"";
+    }
 
-        if (status != null) return taskRepository.findByStatus(status);
+    /**
+     * Get the current revision of a task without loading it.
+     *
+     * @param taskId the task ID
+     * @return the revision, or empty if the task does not exist
+     */
+    public Optional<TaskRevision> findRevision(Long taskId) {
+        return taskRepository.findRevisionById(taskId);
+    }
 
-        return taskRepository.findAll();
+    private static TaskFilter simpleFilter(TaskStatus status, Long assigneeId, boolean unassignedOnly) {
+        TaskFilter filter = new TaskFilter();
+        if (status != null) filter.setStatuses(Set.of(status));
+        if (assigneeId != null) filter.setAssigneeIds(Set.of(assigneeId));
+        else filter.setUnassigned(unassignedOnly);
+        return filter;
+    }
+
+    /**
+     * Query tasks with a composable filter, ordered and paginated by keyset.
+     *
+     * @param filter the filter, sort order, cursor and page size
+     * @return the requested page and the cursor of the next one
+     */
+    public TaskPageResponse queryTasks(TaskFilter filter) {
+        int limit = Math.min(Math.max(filter.getLimit(), 1), MAX_PAGE_SIZE);
+        List<Task> rows = taskRepository.findBy(TaskSpecifications.fromFilter(filter),
+                q -> q.sortBy(TaskSpecifications.sortOf(filter)).limit(limit + 1).all());
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            nextCursor = TaskSpecifications.cursorOf(rows.get(limit - 1), filter).encode();
+        }
+        List<TaskResponse> items = rows.stream().map(TaskResponse::new).collect(Collectors.toList());
+        return new TaskPageResponse(items, nextCursor);
     }
 
     /**
@@ -208,7 +376,27 @@ public class TaskService {
      * @throws EntityNotFoundException if task not found
      * @throws UnauthorizedException if user not authorized
      */
+    @Transactional
     public void deleteTask(Long taskId, Long userId) {
+        deleteTask(taskId, userId, null);
+    }
+
+    /**
+     * Delete a task if it is still at the expected version.
+     * <p>
+     * As with {@link #updateTask(Long, TaskUpdateRequest, Long, Long)}, the delete is a versioned
+     * {@code DELETE ... WHERE id = ? AND version = ?} on the version that was read and checked.
+     *
+     * @param taskId the ID of the task to delete
+     * @param userId the ID of the user deleting the task
+     * @param expectedVersion the version the client last saw, or null to delete whatever is current
+     * @throws EntityNotFoundException if task not found
+     * @throws UnauthorizedException if user not authorized
+     * @throws PreconditionFailedException if the task is not at the expected version
+     * @throws ConflictException if the task changed concurrently and no version was expected
+     */
+    @Transactional
+    public void deleteTask(Long taskId, Long userId, Long expectedVersion) {
         Task existingTask = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + taskId));
 
@@ -216,11 +404,28 @@ public class TaskService {
         if (!existingTask.getCreatorId().equals(userId)) {
             throw new UnauthorizedException("Not authorized to delete this task");
         }
+        checkVersion(existingTask, expectedVersion);
 
-        taskRepository.deleteById(taskId);
+        Task previous = new Task(existingTask);
         try {
-            messagingTemplate.convertAndSend("/topic/tasks", new TaskEvent("DELETED", taskId));
-        } catch (Exception ignored) {}
+            taskRepository.delete(existingTask);
+            taskRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw concurrentModification(taskId, expectedVersion);
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(previous, null, userId));
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && task.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("Task " + task.getId() + " is at version " + task.getVersion()
+                    + ", expected " + expectedVersion);
+        }
+    }
+
+    private static RuntimeException concurrentModification(Long taskId, Long expectedVersion) {
+        String message = "Task " + taskId + " was modified concurrently";
+        return expectedVersion != null ? new PreconditionFailedException(message) : new ConflictException(message);
     }
 
     /**
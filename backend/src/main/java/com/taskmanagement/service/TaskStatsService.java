@@ -0,0 +1,162 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.TaskEvent;
+import com.taskmanagement.dto.TaskPlacement;
+import com.taskmanagement.dto.TaskStatsBucket;
+import com.taskmanagement.dto.TaskStatsResponse;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.outbox.OutboxSink;
+import com.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Service producing the status × priority × assignee task breakdown.
+ * <p>
+ * By default every call runs one grouped query. When {@code task.stats.cache.enabled} is set, an
+ * in-memory counter table is loaded when the instance starts and kept current as a per-instance
+ * {@link OutboxSink}, so reads no longer touch the database and every instance sees every change,
+ * whichever instance made it. The bucket of each task is remembered, so an event that the load already
+ * reflected, or one redelivered after a failure, moves the task to where it already is instead of
+ * counting it twice.
+ */
+@Service
+public class TaskStatsService implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${task.stats.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    private final Map<BucketKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final Map<Long, BucketKey> bucketByTask = new ConcurrentHashMap<>();
+
+    private volatile boolean cacheReady;
+
+    /**
+     * Get the current task statistics.
+     *
+     * @return the aggregated statistics
+     */
+    public TaskStatsResponse getStats() {
+        if (cacheEnabled && cacheReady) {
+            return new TaskStatsResponse(snapshotCounters());
+        }
+        return new TaskStatsResponse(taskRepository.countGroupedByStatusPriorityAndAssignee());
+    }
+
+    @Override
+    public String name() {
+        return "task-stats";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public boolean loadsState() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Load the counter table from the bucket of every task.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void load() {
+        counters.clear();
+        bucketByTask.clear();
+        long tasks = 0;
+        try (Stream<TaskPlacement> rows = taskRepository.streamPlacements()) {
+            for (TaskPlacement row : (Iterable<TaskPlacement>) rows::iterator) {
+                place(row.taskId(), BucketKey.of(row));
+                tasks++;
+            }
+        }
+        cacheReady = true;
+        logger.info("Task stats counter table loaded from {} task(s) into {} bucket(s)", tasks, counters.size());
+    }
+
+    /**
+     * Apply relayed task changes to the counter table.
+     *
+     * @param events the outbox events
+     */
+    @Override
+    public void deliver(List<OutboxEvent> events) throws Exception {
+        if (!cacheEnabled) {
+            return;
+        }
+        for (OutboxEvent event : events) {
+            if (!OutboxEvent.TASK.equals(event.getAggregateType())) {
+                continue;
+            }
+            if ("DELETED".equals(event.getEventType())) {
+                place(event.getAggregateId(), null);
+            } else {
+                TaskEvent payload = objectMapper.readValue(event.getPayload(), TaskEvent.class);
+                place(event.getAggregateId(), BucketKey.of(TaskPlacement.of(payload.getTask())));
+            }
+        }
+    }
+
+    /**
+     * Move a task to a bucket, or out of the table.
+     *
+     * @param taskId the task ID
+     * @param bucket the task's bucket, or null if it was deleted
+     */
+    private void place(Long taskId, BucketKey bucket) {
+        BucketKey previous = bucket != null ? bucketByTask.put(taskId, bucket) : bucketByTask.remove(taskId);
+        if (previous != null) {
+            counter(previous).decrement();
+        }
+        if (bucket != null) {
+            counter(bucket).increment();
+        }
+    }
+
+    private LongAdder counter(BucketKey key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private List<TaskStatsBucket> snapshotCounters() {
+        List<TaskStatsBucket> buckets = new ArrayList<>(counters.size());
+        counters.forEach((key, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                buckets.add(new TaskStatsBucket(key.status(), key.priority(), key.assigneeId(), count));
+            }
+        });
+        return buckets;
+    }
+
+    private record BucketKey(TaskStatus status, Priority priority, Long assigneeId) {
+        static BucketKey of(TaskPlacement placement) {
+            return new BucketKey(placement.status(), placement.priority(), placement.assigneeId());
+        }
+    }
+}
@@ -2,10 +2,13 @@ package com.taskmanagement.service;
 
 import com.taskmanagement.entity.User;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.util.JwtUtils;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,10 +17,11 @@ import java.util.Collection;
 import java.util.Collections;
 
 /**
- * Custom UserDetailsService implementation for Spring Security.
+ * Custom UserDetailsService implementation for Spring Security. Also persists rehashed passwords
+ * when the encoder reports that a stored hash is outdated.
  */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
@@ -30,6 +34,21 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return UserPrincipal.create(user);
     }
 
+    /**
+     * Stores a password rehashed at the current cost after a successful login.
+     *
+     * @param userDetails the authenticated user
+     * @param newPassword the new encoded password
+     * @return the user details carrying the new hash
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        return UserPrincipal.create(userRepository.save(user));
+    }
+
     /**
      * UserPrincipal class to wrap User entity for Spring Security.
      */
@@ -63,6 +82,27 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             );
         }
 
+        /**
+         * Build a principal from the claims of a verified access token, without a database lookup.
+         *
+         * @param claims verified token claims
+         * @return the principal, or null if the token predates the user ID and role claims
+         */
+        public static UserPrincipal fromClaims(Claims claims) {
+            Number id = claims.get(JwtUtils.USER_ID_CLAIM, Number.class);
+            String role = claims.get(JwtUtils.ROLE_CLAIM, String.class);
+            if (id == null || role == null) {
+                return null;
+            }
+            return new UserPrincipal(
+                id.longValue(),
+                claims.getSubject(),
+                null,
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+            );
+        }
+
         public Long getId() {
             return id;
         }
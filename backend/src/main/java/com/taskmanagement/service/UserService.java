@@ -2,10 +2,13 @@ package com.taskmanagement.service;
 
 import com.taskmanagement.entity.Role;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.event.UserCreatedEvent;
 import com.taskmanagement.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +25,12 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     /**
      * Create a new user.
      *
@@ -29,9 +38,14 @@ public class UserService {
      * @return the created user
      */
     public User createUser(User user) {
-        // Encode password before saving
+        // Encode password before saving, outside the transaction so hashing does not hold a connection
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        return transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user);
+            // recorded in the outbox in this transaction
+            eventPublisher.publishEvent(new UserCreatedEvent(saved.getId(), saved.getUsername()));
+            return saved;
+        });
     }
 
     /**
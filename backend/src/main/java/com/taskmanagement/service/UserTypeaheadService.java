@@ -0,0 +1,88 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.UserSuggestion;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.outbox.OutboxSink;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.search.UsernameIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service answering username prefix lookups from an in-memory {@link UsernameIndex}.
+ * <p>
+ * The index is loaded when the instance starts and kept current as a per-instance {@link OutboxSink},
+ * so users registered on any instance become suggestions on every instance.
+ */
+@Service
+public class UserTypeaheadService implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTypeaheadService.class);
+
+    /** Upper bound on suggestions per lookup. */
+    public static final int MAX_LIMIT = 25;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UsernameIndex index = new UsernameIndex();
+
+    @Override
+    public String name() {
+        return "typeahead";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public boolean loadsState() {
+        return true;
+    }
+
+    /**
+     * Load every username into the index.
+     */
+    @Override
+    public void load() {
+        List<UserSuggestion> users = userRepository.findAllSuggestions();
+        index.rebuild(users);
+        logger.info("Username index rebuilt with {} user(s)", users.size());
+    }
+
+    /**
+     * Add newly registered users to the index. Adding a user that is already indexed is a no-op.
+     *
+     * @param events the outbox events
+     */
+    @Override
+    public void deliver(List<OutboxEvent> events) throws Exception {
+        for (OutboxEvent event : events) {
+            if (OutboxEvent.USER.equals(event.getAggregateType())) {
+                UserSuggestion user = objectMapper.readValue(event.getPayload(), UserSuggestion.class);
+                index.put(user.getId(), user.getUsername());
+            }
+        }
+    }
+
+    /**
+     * Suggest users whose username starts with the given prefix.
+     *
+     * @param prefix the typed prefix
+     * @param limit maximum number of suggestions, capped at {@link #MAX_LIMIT}
+     * @return matching users in alphabetical order
+     */
+    public List<UserSuggestion> suggest(String prefix, int limit) {
+        return index.suggest(prefix, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
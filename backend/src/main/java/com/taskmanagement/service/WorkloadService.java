@@ -0,0 +1,194 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.AssigneeWorkload;
+import com.taskmanagement.dto.TaskEvent;
+import com.taskmanagement.dto.TaskPlacement;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.outbox.OutboxSink;
+import com.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Service maintaining live per-assignee task counts by status.
+ * <p>
+ * Counters are lock-free {@link LongAdder}s, one per status, held per assignee. They are loaded from
+ * the placement of every task when the instance starts and kept current as a per-instance
+ * {@link OutboxSink}, so every instance follows changes made on any of them. The assignee and status of
+ * each task are remembered, so a change the load already reflected, or a redelivered one, is a no-op.
+ * Each adjustment is broadcast on {@code /topic/workload}.
+ */
+@Service
+public class WorkloadService implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadService.class);
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<Long, LongAdder[]> counters = new ConcurrentHashMap<>();
+
+    private final Map<Long, Slot> slotByTask = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "workload";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public boolean loadsState() {
+        return true;
+    }
+
+    /**
+     * Rebuild all counters from the database.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void load() {
+        counters.clear();
+        slotByTask.clear();
+        try (Stream<TaskPlacement> rows = taskRepository.streamPlacements()) {
+            for (TaskPlacement row : (Iterable<TaskPlacement>) rows::iterator) {
+                place(row.taskId(), Slot.of(row));
+            }
+        }
+        logger.info("Workload counters rebuilt for {} assignee(s)", counters.size());
+    }
+    /**
+     * Get the workload of every assignee that has at least one task.
+     *
+     * @return list of workloads ordered by assignee ID
+     */
+    public List<AssigneeWorkload> getAllWorkloads() {
+        List<AssigneeWorkload> result = new ArrayList<>();
+        counters.keySet().stream().sorted().forEach(assigneeId -> {
+            AssigneeWorkload workload = getWorkload(assigneeId);
+            if (workload.getOpen() > 0 || workload.getByStatus().get(TaskStatus.DONE) > 0) {
+                result.add(workload);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Get the workload of one assignee.
+     *
+     * @param assigneeId the assignee ID
+     * @return the workload, with zero counts if the user has no tasks
+     */
+    public AssigneeWorkload getWorkload(Long assigneeId) {
+        LongAdder[] adders = counters.get(assigneeId);
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            byStatus.put(status, adders != null ? adders[status.ordinal()].sum() : 0L);
+        }
+        return new AssigneeWorkload(assigneeId, byStatus);
+    }
+
+    /**
+     * Apply relayed task changes to the counters and notify subscribers of the assignees whose counts
+     * changed.
+     *
+     * @param events the outbox events
+     */
+    @Override
+    public void deliver(List<OutboxEvent> events) throws Exception {
+        Set<Long> affected = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            if (!OutboxEvent.TASK.equals(event.getAggregateType())) {
+                continue;
+            }
+            Slot slot = null;
+            if (!"DELETED".equals(event.getEventType())) {
+                TaskEvent payload = objectMapper.readValue(event.getPayload(), TaskEvent.class);
+                slot = Slot.of(TaskPlacement.of(payload.getTask()));
+            }
+            Slot previous = place(event.getAggregateId(), slot);
+            if (!Objects.equals(previous, slot)) {
+                addAssignee(affected, previous);
+                addAssignee(affected, slot);
+            }
+        }
+
+        for (Long assigneeId : affected) {
+            try {
+                messagingTemplate.convertAndSend("/topic/workload", getWorkload(assigneeId));
+            } catch (Exception ignored) {}
+        }
+    }
+
+    /**
+     * Move a task to a slot, or out of the counters.
+     *
+     * @param taskId the task ID
+     * @param slot the task's slot, or null if it was deleted
+     * @return the slot the task was in, or null if it was not counted
+     */
+    private Slot place(Long taskId, Slot slot) {
+        Slot previous = slot != null ? slotByTask.put(taskId, slot) : slotByTask.remove(taskId);
+        if (Objects.equals(previous, slot)) {
+            return previous;
+        }
+        if (previous != null && previous.assigneeId() != null) {
+            countersFor(previous.assigneeId())[previous.status().ordinal()].decrement();
+        }
+        if (slot != null && slot.assigneeId() != null) {
+            countersFor(slot.assigneeId())[slot.status().ordinal()].increment();
+        }
+        return previous;
+    }
+
+    private static void addAssignee(Set<Long> out, Slot slot) {
+        if (slot != null && slot.assigneeId() != null) {
+            out.add(slot.assigneeId());
+        }
+    }
+
+    private LongAdder[] countersFor(Long assigneeId) {
+        return counters.computeIfAbsent(assigneeId, id -> {
+            LongAdder[] adders = new LongAdder[STATUSES.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        });
+    }
+
+    /** The counter a task counts towards. */
+    private record Slot(Long assigneeId, TaskStatus status) {
+        static Slot of(TaskPlacement placement) {
+            return new Slot(placement.assigneeId(), placement.status());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanagement.util;
 
+import com.taskmanagement.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,22 +9,33 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 import java.util.logging.Logger;
 
 /**
  * Utility class for JWT token operations.
+ * <p>
+ * The signing key and parser are built once and reused, so verifying a token costs one HMAC and one
+ * parse. Access tokens carry the user ID and role as claims, so callers can build a principal without
+ * a database lookup.
  */
 @Component
 public class JwtUtils {
     
     private static final Logger logger = Logger.getLogger(JwtUtils.class.getName());
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
 
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     /**
      * Generate JWT token from authentication object.
      *
@@ -42,15 +54,32 @@ public class JwtUtils {
      * @return JWT token string
      */
     public String generateJwtToken(String username) {
+        return builder(username).compact();
+    }
+
+    /**
+     * Generate a short-lived access token carrying the user's ID and role.
+     *
+     * @param user the user
+     * @return JWT token string
+     */
+    public String generateAccessToken(User user) {
+        return builder(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .compact();
+    }
+
+    private JwtBuilder builder(String username) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs * 1000L);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .signWith(getSigningKey());
     }
 
     /**
@@ -59,8 +88,26 @@ public class JwtUtils {
      * @return SecretKey for signing
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Get the shared, thread-safe parser verifying with the signing key.
+     *
+     * @return JwtParser
+     */
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser().verifyWith(getSigningKey()).build();
+            parser = current;
+        }
+        return current;
     }
 
     /**
@@ -70,14 +117,38 @@ public class JwtUtils {
      * @return username
      */
     public String getUsernameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser()
                 .parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
+    /**
+     * Validate a JWT token and return its claims, parsing it only once.
+     *
+     * @param authToken the JWT token to validate
+     * @return the verified claims, or null if the token is invalid or expired
+     */
+    public Claims parseValidClaims(String authToken) {
+        try {
+            return parser()
+                .parseSignedClaims(authToken)
+                .getPayload();
+        } catch (MalformedJwtException e) {
+            logger.severe("Invalid JWT token: " + e.getMessage());
+        } catch (ExpiredJwtException e) {
+            logger.severe("JWT token is expired: " + e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            logger.severe("JWT token is unsupported: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.severe("JWT claims string is empty: " + e.getMessage());
+        } catch (Exception e) {
+            logger.severe("JWT validation error: " + e.getMessage());
+        }
+
+        return null;
+    }
+
     /**
      * Validate JWT token.
      *
@@ -86,9 +157,7 @@ public class JwtUtils {
      */
     public boolean validateJwtToken(String authToken) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+            parser()
                 .parseSignedClaims(authToken);
             return true;
         } catch (MalformedJwtException e) {
@@ -113,9 +182,7 @@ public class JwtUtils {
      * @return expiration date
      */
     public Date getExpirationDateFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser()
                 .parseSignedClaims(token)
                 .getPayload()
                 .getExpiration();
@@ -0,0 +1,312 @@
+package com.taskmanagement.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of open WebSocket sessions with per-session outbound backpressure.
+ * <p>
+ * Installed on the client outbound channel, it counts the STOMP {@code MESSAGE} frames and payload bytes
+ * backed up for each session: from an outbound thread handing the message to the session, which buffers
+ * it while another send to the same client is in progress, until the frame has been written to the
+ * socket. Messages still waiting in the shared executor queue are not counted, so a broadcast burst that
+ * briefly backs up the executor does not count against healthy sessions. A session whose backlog exceeds
+ * {@code websocket.outbound.max-queued-messages} is a slow consumer: further messages for it are dropped
+ * and the session is closed, so it cannot pin outbound threads or grow its buffer without bound. Spring's
+ * own send-time and send-buffer limits (see {@code WebSocketConfig}) catch the case where a single send
+ * blocks; sessions closed for either reason are counted in {@code websocket.sessions.evicted}.
+ * <p>
+ * Also publishes the size, activity and queue of the inbound and outbound channel executors.
+ */
+@Component
+public class WebSocketSessionRegistry implements ExecutorChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketSessionRegistry.class);
+
+    private static final String MESSAGE_COMMAND = "MESSAGE\n";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${websocket.outbound.max-queued-messages:1000}")
+    private int maxQueuedMessages;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private Counter dropped;
+    private Counter evictedSlow;
+    private Counter evictedSendLimit;
+
+    @PostConstruct
+    void init() {
+        dropped = Counter.builder("websocket.outbound.dropped")
+                .description("Outbound messages dropped for slow consumers")
+                .register(meterRegistry);
+        evictedSlow = evictedCounter("queue");
+        evictedSendLimit = evictedCounter("send-limit");
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .description("Open WebSocket sessions")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queued", this, WebSocketSessionRegistry::getTotalQueuedMessages)
+                .description("Outbound messages queued across all sessions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish executor metrics once the channel executors exist.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindExecutorMetrics() {
+        bindExecutorMetrics("clientInboundChannelExecutor", "inbound");
+        bindExecutorMetrics("clientOutboundChannelExecutor", "outbound");
+    }
+
+    /**
+     * Wrap the WebSocket handler so sessions are registered when opened and removed when closed. The
+     * handler is given a session that reports each frame written to the socket.
+     *
+     * @param handler the handler to decorate
+     * @return the decorated handler
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState(session);
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(new WebSocketSessionDecorator(session) {
+                    @Override
+                    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+                        try {
+                            super.sendMessage(message);
+                        } finally {
+                            if (isMessageFrame(message)) {
+                                state.sent();
+                            }
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                if (state != null && !state.evicted.get() && CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    evictedSendLimit.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SessionState state = stateOf(message);
+        if (state == null) {
+            return message;
+        }
+        if (state.evicted.get()) {
+            dropped.increment();
+            return null;
+        }
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        SessionState state = stateOf(message);
+        if (state == null || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        if (state.evicted.get()) {
+            dropped.increment();
+            return null;
+        }
+        if (state.queuedMessages.incrementAndGet() > maxQueuedMessages) {
+            state.queuedMessages.decrementAndGet();
+            dropped.increment();
+            evict(state);
+            return null;
+        }
+        int size = sizeOf(message);
+        state.queuedSizes.add(size);
+        state.queuedBytes.addAndGet(size);
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+    }
+
+    /**
+     * @return number of open sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * @param sessionId the WebSocket session ID
+     * @return messages queued for the session, or 0 if it is not open
+     */
+    public int getQueuedMessages(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        return state != null ? state.queuedMessages.get() : 0;
+    }
+
+    /**
+     * @param sessionId the WebSocket session ID
+     * @return payload bytes queued for the session, or 0 if it is not open
+     */
+    public long getQueuedBytes(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        return state != null ? state.queuedBytes.get() : 0;
+    }
+
+    /**
+     * @return messages queued across all sessions
+     */
+    public long getTotalQueuedMessages() {
+        long total = 0;
+        for (SessionState state : sessions.values()) {
+            total += state.queuedMessages.get();
+        }
+        return total;
+    }
+
+    private void evict(SessionState state) {
+        if (!state.evicted.compareAndSet(false, true)) {
+            return;
+        }
+        evictedSlow.increment();
+        logger.warn("Closing slow WebSocket session {}: more than {} outbound messages queued",
+                state.session.getId(), maxQueuedMessages);
+        try {
+            state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            logger.debug("Failed to close WebSocket session {}", state.session.getId(), e);
+        }
+    }
+
+    private SessionState stateOf(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessions.get(sessionId) : null;
+    }
+
+    private static int sizeOf(Message<?> message) {
+        return message.getPayload() instanceof byte[] bytes ? bytes.length : 0;
+    }
+
+    /**
+     * @param message a WebSocket message about to be written
+     * @return whether it carries a STOMP {@code MESSAGE} frame, as opposed to e.g. a heartbeat or receipt
+     */
+    static boolean isMessageFrame(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            return text.getPayload().startsWith(MESSAGE_COMMAND);
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload();
+            byte[] command = MESSAGE_COMMAND.getBytes(StandardCharsets.US_ASCII);
+            if (payload.remaining() < command.length) {
+                return false;
+            }
+            for (int i = 0; i < command.length; i++) {
+                if (payload.get(payload.position() + i) != command[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private Counter evictedCounter(String reason) {
+        return Counter.builder("websocket.sessions.evicted")
+                .description("WebSocket sessions closed as slow consumers")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private void bindExecutorMetrics(String beanName, String channel) {
+        if (!applicationContext.containsBean(beanName)
+                || !(applicationContext.getBean(beanName) instanceof ThreadPoolTaskExecutor executor)) {
+            return; // virtual-thread executors have no pool to report
+        }
+        Gauge.builder("websocket.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Threads in the channel executor")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads of the channel executor handling a message")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Messages waiting for a channel executor thread")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    private static final class SessionState {
+
+        private final WebSocketSession session;
+        private final AtomicInteger queuedMessages = new AtomicInteger();
+        private final AtomicLong queuedBytes = new AtomicLong();
+        private final Queue<Integer> queuedSizes = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean evicted = new AtomicBoolean();
+
+        private SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+
+        /**
+         * A {@code MESSAGE} frame has been written. Frames leave a session's buffer in the order they were
+         * queued, so the oldest queued size is the one written.
+         */
+        private void sent() {
+            Integer size = queuedSizes.poll();
+            if (size != null) {
+                queuedMessages.decrementAndGet();
+                queuedBytes.addAndGet(-size);
+            }
+        }
+    }
+}
@@ -17,14 +17,20 @@ import org.springframework.messaging.simp.stomp.StompHeaders;
 import org.springframework.messaging.simp.stomp.StompSession;
 import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
 import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.client.WebSocketClient;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
 import org.springframework.web.socket.messaging.WebSocketStompClient;
 import org.springframework.web.socket.sockjs.client.SockJsClient;
 import org.springframework.web.socket.sockjs.client.Transport;
 import org.springframework.web.socket.sockjs.client.WebSocketTransport;
 
 import java.lang.reflect.Type;
+import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -96,4 +102,34 @@ public class WebSocketIntegrationTest {
             Assertions.assertNotNull(msg, "Expected to receive a websocket message when task created");
         }
     }
+
+    @Test
+    public void testNativeEndpointNegotiatesStompAndCompression() throws Exception {
+        BlockingQueue<String> frames = new ArrayBlockingQueue<>(4);
+
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.setSecWebSocketProtocol("v12.stomp");
+        headers.setSecWebSocketExtensions(List.of(new WebSocketExtension("permessage-deflate")));
+
+        WebSocketSession session = new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+                frames.offer(message.getPayload());
+            }
+        }, headers, URI.create(String.format("ws://localhost:%d/ws-native", port))).get(3, TimeUnit.SECONDS);
+
+        try {
+            Assertions.assertEquals("v12.stomp", session.getAcceptedProtocol());
+            Assertions.assertTrue(session.getExtensions().stream()
+                    .anyMatch(extension -> "permessage-deflate".equals(extension.getName())));
+
+            session.sendMessage(new TextMessage("CONNECT\naccept-version:1.2\nhost:localhost\n\n\0"));
+
+            String frame = frames.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(frame, "Expected a CONNECTED frame");
+            Assertions.assertTrue(frame.startsWith("CONNECTED"), frame);
+        } finally {
+            session.close();
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package com.taskmanagement.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.ActivityArchiveChunk;
+import com.taskmanagement.entity.ActivityType;
+import com.taskmanagement.repository.ActivityArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ActivityArchiveTest {
+
+    private final List<ActivityArchiveChunk> table = new ArrayList<>();
+    private long nextId;
+    private ActivityArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        ActivityArchiveRepository repository = mock(ActivityArchiveRepository.class);
+        when(repository.save(any())).thenAnswer(inv -> {
+            ActivityArchiveChunk chunk = inv.getArgument(0);
+            chunk.setId(++nextId);
+            table.add(chunk);
+            return chunk;
+        });
+        when(repository.findFirstByTaskIdOrderByIdDesc(anyLong())).thenAnswer(inv -> {
+            List<ActivityArchiveChunk> chunks = chunksOf(inv.getArgument(0));
+            return chunks.isEmpty() ? Optional.empty() : Optional.of(chunks.get(chunks.size() - 1));
+        });
+        when(repository.existsByTaskId(anyLong())).thenAnswer(inv -> !chunksOf(inv.getArgument(0)).isEmpty());
+        when(repository.findByTaskIdOrderByIdAsc(anyLong())).thenAnswer(inv -> chunksOf(inv.getArgument(0)));
+        doAnswer(inv -> table.remove((ActivityArchiveChunk) inv.getArgument(0)))
+                .when(repository).delete(any(ActivityArchiveChunk.class));
+
+        archive = new ActivityArchive();
+        ReflectionTestUtils.setField(archive, "activityArchiveRepository", repository);
+        ReflectionTestUtils.setField(archive, "objectMapper", new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        ReflectionTestUtils.setField(archive, "chunkActivities", 2);
+    }
+
+    private List<ActivityArchiveChunk> chunksOf(Long taskId) {
+        return table.stream().filter(c -> c.getTaskId().equals(taskId)).collect(Collectors.toList());
+    }
+
+    private Activity activity(long id, long taskId, int minute) {
+        Activity activity = new Activity(taskId, ActivityType.UPDATED, 3L, "alice", "change " + id);
+        activity.setId(id);
+        activity.setCreatedAt(LocalDateTime.of(2023, 5, 1, 10, minute));
+        return activity;
+    }
+
+    private List<Long> ids(List<Activity> activities) {
+        return activities.stream().map(Activity::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void append_ShouldReadBackPerTaskInOrder() {
+        archive.append(List.of(activity(3, 1, 5), activity(1, 1, 1), activity(2, 2, 2)));
+        archive.append(List.of(activity(4, 1, 7)));
+
+        assertEquals(List.of(1L, 3L, 4L), ids(archive.read(1L)));
+        assertEquals(List.of(2L), ids(archive.read(2L)));
+        assertFalse(archive.contains(9L));
+        assertEquals(3, table.size());
+
+        Activity read = archive.read(2L).get(0);
+        assertEquals("alice", read.getActorName());
+        assertEquals(LocalDateTime.of(2023, 5, 1, 10, 2), read.getCreatedAt());
+    }
+
+    @Test
+    void append_ShouldTopUpNewestChunkThenRollOver() {
+        archive.append(List.of(activity(1, 1, 1)));
+        archive.append(List.of(activity(2, 1, 2)));
+        archive.append(List.of(activity(3, 1, 3), activity(9, 2, 9)));
+        archive.append(List.of(activity(4, 1, 4), activity(5, 1, 5), activity(6, 1, 6)));
+
+        assertEquals(List.of(2, 2, 2), chunksOf(1L).stream().map(ActivityArchiveChunk::getActivityCount).toList());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), ids(archive.read(1L)));
+        assertEquals(List.of(9L), ids(archive.read(2L)));
+    }
+
+    @Test
+    void append_ShouldNotRewriteFullChunks() {
+        archive.append(List.of(activity(1, 1, 1), activity(2, 1, 2)));
+        ActivityArchiveChunk full = chunksOf(1L).get(0);
+
+        archive.append(List.of(activity(3, 1, 3)));
+        archive.append(List.of(activity(4, 1, 4)));
+
+        assertSame(full, chunksOf(1L).get(0));
+        assertEquals(2, chunksOf(1L).size());
+    }
+
+    @Test
+    void read_ShouldDeduplicateRowsArchivedTwice() {
+        archive.append(List.of(activity(1, 1, 1)));
+        archive.append(List.of(activity(1, 1, 1), activity(2, 1, 2)));
+
+        assertEquals(List.of(1L, 2L), ids(archive.read(1L)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmanagement.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.ActivityType;
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.CommentChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.repository.OutboxEventRepository;
+import com.taskmanagement.service.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Round-trips task and comment changes through {@link OutboxService} payloads into activities.
+ */
+class ActivityOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxService outboxService;
+    private ActivityOutboxSink sink;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        outboxService = new OutboxService();
+        ReflectionTestUtils.setField(outboxService, "outboxEventRepository", outboxEventRepository);
+        ReflectionTestUtils.setField(outboxService, "objectMapper", objectMapper);
+        sink = new ActivityOutboxSink();
+        ReflectionTestUtils.setField(sink, "objectMapper", objectMapper);
+    }
+
+    private Task task(String title, TaskStatus status, Priority priority) {
+        Task t = new Task(title, "d", status, priority, null, 1L);
+        t.setId(5L);
+        return t;
+    }
+
+    private List<Activity> activitiesFor(Object event) throws Exception {
+        if (event instanceof TaskChangedEvent taskEvent) {
+            outboxService.onTaskChanged(taskEvent);
+        } else {
+            outboxService.onCommentChanged((CommentChangedEvent) event);
+        }
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent outboxEvent = captor.getValue();
+        outboxEvent.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        List<Activity> activities = new ArrayList<>();
+        sink.collect(outboxEvent, activities);
+        return activities;
+    }
+
+    @Test
+    void collect_WhenTaskCreated_ShouldRecordCreated() throws Exception {
+        List<Activity> activities = activitiesFor(new TaskChangedEvent(null, task("a", TaskStatus.TODO, Priority.LOW), 1L));
+
+        assertEquals(1, activities.size());
+        assertEquals(ActivityType.CREATED, activities.get(0).getType());
+        assertEquals(5L, activities.get(0).getTaskId());
+        assertEquals(1L, activities.get(0).getActorId());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 12, 0), activities.get(0).getCreatedAt());
+    }
+
+    @Test
+    void collect_WhenTaskUpdated_ShouldRecordStatusChangeAndFieldDiff() throws Exception {
+        Task before = task("a", TaskStatus.TODO, Priority.LOW);
+        Task after = task("b", TaskStatus.DONE, Priority.HIGH);
+
+        List<Activity> activities = activitiesFor(new TaskChangedEvent(before, after, 2L));
+
+        assertEquals(2, activities.size());
+        assertEquals(ActivityType.STATUS_CHANGED, activities.get(0).getType());
+        assertEquals("Status: TODO → DONE", activities.get(0).getDetail());
+        assertEquals(ActivityType.UPDATED, activities.get(1).getType());
+        assertEquals("title: a → b; priority: LOW → HIGH", activities.get(1).getDetail());
+    }
+
+    @Test
+    void collect_WhenTaskDeleted_ShouldRecordNothing() throws Exception {
+        assertTrue(activitiesFor(new TaskChangedEvent(task("a", TaskStatus.TODO, Priority.LOW), null, 2L)).isEmpty());
+    }
+
+    @Test
+    void collect_WhenCommentCreated_ShouldRecordComment() throws Exception {
+        Comment comment = new Comment("Looks good", 5L, 3L);
+        comment.setId(9L);
+
+        List<Activity> activities = activitiesFor(new CommentChangedEvent(null, comment, 3L));
+
+        assertEquals(1, activities.size());
+        assertEquals(ActivityType.COMMENT, activities.get(0).getType());
+        assertEquals(5L, activities.get(0).getTaskId());
+        assertEquals(3L, activities.get(0).getActorId());
+        assertEquals("Looks good", activities.get(0).getDetail());
+    }
+}
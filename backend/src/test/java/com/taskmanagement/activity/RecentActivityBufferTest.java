@@ -0,0 +1,68 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.ActivityType;
+import com.taskmanagement.repository.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentActivityBufferTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private Activity activity(long id, long taskId, int minute) {
+        Activity activity = new Activity(taskId, ActivityType.UPDATED, null, null, "a" + id);
+        activity.setId(id);
+        activity.setCreatedAt(BASE.plusMinutes(minute));
+        return activity;
+    }
+
+    private List<Long> ids(List<Activity> activities) {
+        return activities.stream().map(Activity::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void find_WhenComplete_ShouldPageNewestFirstFromMemory() {
+        RecentActivityBuffer buffer = new RecentActivityBuffer(10);
+        buffer.load(List.of(activity(1, 1, 0), activity(2, 2, 1)), true);
+        buffer.addAll(List.of(activity(3, 1, 2)));
+
+        assertEquals(List.of(3L, 2L), ids(buffer.find(a -> true, null, null, 2)));
+        assertEquals(List.of(1L), ids(buffer.find(a -> true, new KeysetCursor(BASE.plusMinutes(1), 2L), null, 2)));
+        assertEquals(List.of(3L, 1L), ids(buffer.find(a -> a.getTaskId() == 1L, null, null, 5)));
+    }
+
+    @Test
+    void find_WhenPageCrossesEvictedRows_ShouldDeferToDatabase() {
+        RecentActivityBuffer buffer = new RecentActivityBuffer(2);
+        buffer.addAll(List.of(activity(1, 1, 0), activity(2, 1, 1), activity(3, 1, 2)));
+
+        assertEquals(2, buffer.size());
+        assertEquals(List.of(3L, 2L), ids(buffer.find(a -> true, null, null, 2)));
+        assertNull(buffer.find(a -> true, null, null, 3));
+        assertNull(buffer.find(a -> true, new KeysetCursor(BASE.plusMinutes(1), 2L), null, 1));
+    }
+
+    @Test
+    void find_WithSinceInsideWindow_ShouldAnswerFromMemory() {
+        RecentActivityBuffer buffer = new RecentActivityBuffer(2);
+        buffer.load(List.of(activity(5, 1, 5), activity(6, 1, 6)), false);
+
+        assertEquals(List.of(6L), ids(buffer.find(a -> true, null, BASE.plusMinutes(6), 10)));
+        assertNull(buffer.find(a -> true, null, BASE.plusMinutes(1), 10));
+    }
+
+    @Test
+    void addAll_ShouldIgnoreRowsOlderThanBoundary() {
+        RecentActivityBuffer buffer = new RecentActivityBuffer(5);
+        buffer.load(List.of(activity(5, 1, 5)), false);
+        buffer.addAll(List.of(activity(4, 1, 4), activity(7, 1, 7)));
+
+        assertEquals(2, buffer.size());
+    }
+}
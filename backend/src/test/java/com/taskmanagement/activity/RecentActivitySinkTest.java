@@ -0,0 +1,48 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.repository.ActivityRepository;
+import com.taskmanagement.service.ActivityService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecentActivitySinkTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private ActivityService activityService;
+
+    @InjectMocks
+    private RecentActivitySink sink;
+
+    private static OutboxEvent event(long id, String aggregateType, long aggregateId) {
+        OutboxEvent event = new OutboxEvent(aggregateType, aggregateId, "CREATED", "{}");
+        event.setId(id);
+        return event;
+    }
+
+    @Test
+    void deliver_ShouldAddDerivedAndDirectlyCreatedActivities() {
+        List<Activity> derived = List.of(new Activity());
+        List<Activity> direct = List.of(new Activity());
+        when(activityRepository.findBySourceEventIdIn(List.of(1L))).thenReturn(derived);
+        when(activityRepository.findAllById(List.of(40L))).thenReturn(direct);
+
+        sink.deliver(List.of(event(1, OutboxEvent.TASK, 7), event(2, OutboxEvent.ACTIVITY, 40),
+                event(3, OutboxEvent.USER, 5)));
+
+        verify(activityService).addRecent(derived);
+        verify(activityService).addRecent(direct);
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test of authenticated task reads over real HTTP connections, holding a fixed number of requests
+ * in flight. Compare the platform-thread pool with virtual threads (Java 21, built with {@code -Pjava21}):
+ * <pre>
+ * mvn test -Dtest=RequestThroughputBenchmark -Dbenchmarks=true
+ * mvn test -Pjava21 -Dtest=RequestThroughputBenchmark -Dbenchmarks=true -Dspring.threads.virtual.enabled=true
+ * </pre>
+ * Concurrency and request count can be set with {@code -Dbenchmark.concurrency} and
+ * {@code -Dbenchmark.requests}. The client shares the JVM and CPUs with the server, so compare runs on
+ * the same machine rather than absolute numbers; failed requests (timeouts, refused connections) are
+ * reported, not asserted.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.taskmanagement=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "server.tomcat.max-connections=10000",
+        "server.tomcat.accept-count=10000"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class RequestThroughputBenchmark {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${benchmark.concurrency:5000}")
+    private int concurrency;
+
+    @Value("${benchmark.requests:50000}")
+    private int requests;
+
+    @Test
+    void getTask_UnderConcurrentLoad() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+                .build();
+        String token = registerAndLogin(client);
+        String taskUrl = "http://localhost:" + port + "/api/tasks/" + createTask(client, token);
+
+        // warm up the server and the connection pool
+        run(client, token, taskUrl, Math.min(concurrency, 500), Math.min(requests, 5_000));
+
+        long[] nanos = new long[requests];
+        long start = System.nanoTime();
+        int failures = run(client, token, taskUrl, concurrency, requests, nanos);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(nanos);
+        System.out.printf("%s threads, %d in flight: %.0f req/s, p50=%.1fms p99=%.1fms, %d failed%n",
+                Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform", concurrency,
+                requests / seconds, nanos[requests / 2] / 1e6, nanos[requests * 99 / 100] / 1e6, failures);
+    }
+
+    private int run(HttpClient client, String token, String url, int inFlight, int count) throws InterruptedException {
+        return run(client, token, url, inFlight, count, new long[count]);
+    }
+
+    private int run(HttpClient client, String token, String url, int inFlight, int count, long[] nanos)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(inFlight);
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        nanos[index] = System.nanoTime() - sent;
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        permits.release();
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+        return failures.get();
+    }
+
+    private String registerAndLogin(HttpClient client) throws Exception {
+        String body = "{\"username\":\"loadtest\",\"email\":\"loadtest@example.com\",\"password\":\"password123\"}";
+        post(client, "/api/auth/register", null, body);
+        String login = post(client, "/api/auth/login", null, "{\"username\":\"loadtest\",\"password\":\"password123\"}");
+        return objectMapper.readTree(login).get("token").asText();
+    }
+
+    private long createTask(HttpClient client, String token) throws Exception {
+        String task = post(client, "/api/tasks", token,
+                "{\"title\":\"Load test task\",\"status\":\"TODO\",\"priority\":\"MEDIUM\"}");
+        return objectMapper.readTree(task).get("id").asLong();
+    }
+
+    private String post(HttpClient client, String path, String token, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
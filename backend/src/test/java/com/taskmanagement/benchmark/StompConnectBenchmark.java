@@ -0,0 +1,156 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.util.JwtUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Reconnect storm: opens many SockJS sessions at once, each sending an authenticated STOMP CONNECT,
+ * and reports connect latency and how many users the server loaded from the database while they
+ * connected (expected to be zero now that the principal comes from the token claims).
+ * <pre>
+ * mvn test -Dtest=StompConnectBenchmark -Dbenchmarks=true
+ * </pre>
+ * The number of sessions and of CONNECTs in flight can be set with {@code -Dbenchmark.sessions}
+ * (default 5000) and {@code -Dbenchmark.concurrency} (default 500). The client shares the JVM and CPUs
+ * with the server, so compare runs on the same machine rather than absolute numbers.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.com.taskmanagement=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "server.tomcat.max-connections=10000",
+        "server.tomcat.accept-count=10000"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class StompConnectBenchmark {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${benchmark.sessions:5000}")
+    private int sessions;
+
+    @Value("${benchmark.concurrency:500}")
+    private int concurrency;
+
+    private final Queue<StompSession> connected = new ConcurrentLinkedQueue<>();
+
+    @AfterEach
+    void tearDown() {
+        connected.forEach(session -> {
+            try {
+                session.disconnect();
+            } catch (RuntimeException ignored) {
+                // connection already gone
+            }
+        });
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void connectStorm_ShouldAuthenticateFromClaims() throws Exception {
+        User user = userRepository.save(new User("stormuser", "storm@example.com", "unused-hash", Role.USER));
+        String token = jwtUtils.generateAccessToken(user);
+
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        String url = "ws://localhost:" + port + "/ws";
+
+        // warm up the SockJS info cache, the handshake path and the JIT
+        connectAll(stompClient, url, token, Math.min(sessions, 200), Math.min(concurrency, 50), new long[Math.min(sessions, 200)]);
+        disconnectAll();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long[] nanos = new long[sessions];
+        long start = System.nanoTime();
+        int failures = connectAll(stompClient, url, token, sessions, concurrency, nanos);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long userLoads = statistics.getEntityStatistics(User.class.getName()).getLoadCount();
+
+        Arrays.sort(nanos);
+        System.out.printf("%d sessions, %d in flight: %.0f connects/s, p50=%.1fms p99=%.1fms, %d failed, %d user loads%n",
+                sessions, concurrency, sessions / seconds, nanos[sessions / 2] / 1e6, nanos[sessions * 99 / 100] / 1e6,
+                failures, userLoads);
+        assertEquals(0, userLoads, "STOMP CONNECT should not load users from the database");
+    }
+
+    private int connectAll(WebSocketStompClient stompClient, String url, String token, int count, int inFlight, long[] nanos)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(inFlight);
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            futures[i] = stompClient.connectAsync(url, (WebSocketHttpHeaders) null, connectHeaders, new StompSessionHandlerAdapter() {})
+                    .orTimeout(60, TimeUnit.SECONDS)
+                    .handle((session, error) -> {
+                        nanos[index] = System.nanoTime() - sent;
+                        if (error != null) {
+                            failures.incrementAndGet();
+                        } else {
+                            connected.add(session);
+                        }
+                        permits.release();
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+        return failures.get();
+    }
+
+    private void disconnectAll() {
+        StompSession session;
+        while ((session = connected.poll()) != null) {
+            session.disconnect();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.dto.TaskHistoryResponse;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.repository.TaskHistoryEventRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskSnapshotRepository;
+import com.taskmanagement.service.TaskHistoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures point-in-time reconstruction of a task with 10k recorded edits.
+ * <p>
+ * Run with {@code mvn test -Dtest=TaskHistoryBenchmark -Dbenchmarks=true}.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.com.taskmanagement=INFO"})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class TaskHistoryBenchmark {
+
+    private static final int EDITS = 10_000;
+    private static final int WARMUP = 2_000;
+    private static final int SAMPLES = 5_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskHistoryService taskHistoryService;
+
+    @Autowired
+    private TaskHistoryEventRepository eventRepository;
+
+    @Autowired
+    private TaskSnapshotRepository snapshotRepository;
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAllInBatch();
+        snapshotRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void reconstruct_TaskWith10kEdits() {
+        Task task = new Task("Benchmarked task", "v0", TaskStatus.TODO, Priority.MEDIUM, null, 1L);
+        task = taskRepository.save(task);
+        taskHistoryService.onTaskChanged(new TaskChangedEvent(null, new Task(task), 1L));
+
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 1; i <= EDITS; i++) {
+            Task previous = new Task(task);
+            task.setDescription("v" + i);
+            task.setStatus(statuses[i % statuses.length]);
+            taskHistoryService.onTaskChanged(new TaskChangedEvent(previous, new Task(task), 1L));
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < WARMUP; i++) {
+            taskHistoryService.getStateAtVersion(task.getId(), 1 + random.nextInt(EDITS + 1));
+        }
+
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            int version = 1 + random.nextInt(EDITS + 1);
+            long start = System.nanoTime();
+            TaskHistoryResponse response = taskHistoryService.getStateAtVersion(task.getId(), version);
+            nanos[i] = System.nanoTime() - start;
+            assertEquals("v" + (version - 1), response.getState().getDescription());
+        }
+
+        Arrays.sort(nanos);
+        double p50 = nanos[SAMPLES / 2] / 1e6;
+        double p99 = nanos[SAMPLES * 99 / 100] / 1e6;
+        System.out.printf("Task history reconstruction over %d edits: p50=%.3fms p99=%.3fms max=%.3fms%n",
+                EDITS, p50, p99, nanos[SAMPLES - 1] / 1e6);
+        assertTrue(p50 < 1.0, "median reconstruction should stay under 1ms, was " + p50 + "ms");
+    }
+}
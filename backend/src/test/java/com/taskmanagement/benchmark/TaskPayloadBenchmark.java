@@ -0,0 +1,92 @@
+package com.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.taskmanagement.dto.TaskResponse;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the size and encoding cost of a task list response as JSON and CBOR, each with and without
+ * gzip.
+ * <p>
+ * Run with {@code mvn test -Dtest=TaskPayloadBenchmark -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class TaskPayloadBenchmark {
+
+    private static final int TASKS = 500;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Test
+    void encode_TaskList() throws IOException {
+        List<TaskResponse> payload = tasks();
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+
+        long jsonBytes = measure("json", json, payload, false);
+        measure("json+gzip", json, payload, true);
+        long cborBytes = measure("cbor", cbor, payload, false);
+        measure("cbor+gzip", cbor, payload, true);
+
+        assertTrue(cborBytes < jsonBytes, "CBOR should be smaller than JSON");
+    }
+
+    private static long measure(String name, ObjectMapper mapper, List<TaskResponse> payload, boolean gzip)
+            throws IOException {
+        long size = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            size = encode(mapper, payload, gzip);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            size = encode(mapper, payload, gzip);
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / ITERATIONS;
+        System.out.printf("%-10s %8d bytes %9.1f us/request%n", name, size, micros);
+        return size;
+    }
+
+    private static long encode(ObjectMapper mapper, List<TaskResponse> payload, boolean gzip) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+        if (gzip) {
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                mapper.writeValue(out, payload);
+            }
+        } else {
+            mapper.writeValue(buffer, payload);
+        }
+        return buffer.size();
+    }
+
+    private static List<TaskResponse> tasks() {
+        TaskStatus[] statuses = TaskStatus.values();
+        Priority[] priorities = Priority.values();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<TaskResponse> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task("Task " + i + " title", "Description of task " + i + " with some detail",
+                    statuses[i % statuses.length], priorities[i % priorities.length], (long) (i % 7), 1L);
+            task.setId((long) i);
+            task.setCreatedAt(base.plusMinutes(i));
+            task.setUpdatedAt(base.plusMinutes(i * 2L));
+            task.setVersion(i % 5);
+            tasks.add(new TaskResponse(task));
+        }
+        return tasks;
+    }
+}
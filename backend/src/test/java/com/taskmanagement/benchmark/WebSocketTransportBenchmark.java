@@ -0,0 +1,226 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.util.JwtUtils;
+import com.taskmanagement.websocket.WebSocketSessionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the plain WebSocket endpoint, with and without permessage-deflate, against the SockJS
+ * fallback (over its WebSocket transport, the best case for SockJS): memory per open connection and
+ * broadcast deliveries per second.
+ * <pre>
+ * mvn test -Dtest=WebSocketTransportBenchmark -Dbenchmarks=true
+ * </pre>
+ * {@code -Dbenchmark.connections} (default 500) sets the number of subscribers and
+ * {@code -Dbenchmark.messages} (default 200) the number of broadcasts, each delivered to every
+ * subscriber. Client and server share the JVM, so the memory figures include both ends of each
+ * connection; heap is measured after a GC, RSS also covers native deflate contexts.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.taskmanagement=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "server.tomcat.max-connections=10000",
+        "server.tomcat.accept-count=10000"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class WebSocketTransportBenchmark {
+
+    private static final String TOPIC = "/topic/benchmark";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private SimpUserRegistry simpUserRegistry;
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Value("${benchmark.connections:500}")
+    private int connections;
+
+    @Value("${benchmark.messages:200}")
+    private int messages;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void nativeVersusSockJs() throws Exception {
+        User user = userRepository.save(new User("wsbench", "wsbench@example.com", "unused-hash", Role.USER));
+        String token = jwtUtils.generateAccessToken(user);
+        StandardWebSocketClient webSocketClient = new StandardWebSocketClient();
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(webSocketClient)));
+        String nativeUrl = "ws://localhost:" + port + "/ws-native";
+        String sockJsUrl = "ws://localhost:" + port + "/ws";
+
+        // warm up every path and the JIT
+        run("warm-up", webSocketClient, nativeUrl, token, false, Math.min(connections, 50), Math.min(messages, 50), false);
+        run("warm-up", webSocketClient, nativeUrl, token, true, Math.min(connections, 50), Math.min(messages, 50), false);
+        run("warm-up", sockJsClient, sockJsUrl, token, false, Math.min(connections, 50), Math.min(messages, 50), false);
+
+        run("native", webSocketClient, nativeUrl, token, false, connections, messages, true);
+        run("native+deflate", webSocketClient, nativeUrl, token, true, connections, messages, true);
+        run("sockjs", sockJsClient, sockJsUrl, token, false, connections, messages, true);
+    }
+
+    private void run(String label, WebSocketClient client, String url, String token, boolean deflate,
+                     int count, int broadcasts, boolean report) throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(client);
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        if (deflate) {
+            handshakeHeaders.setSecWebSocketExtensions(List.of(new WebSocketExtension("permessage-deflate")));
+        }
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        long heapBefore = usedHeap();
+        long rssBefore = rss();
+        for (int i = 0; i < count; i++) {
+            sessions.add(stompClient.connectAsync(url, handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() {})
+                    .get(30, TimeUnit.SECONDS));
+        }
+        long heapPerConnection = (usedHeap() - heapBefore) / count;
+        long rssPerConnection = (rss() - rssBefore) / count;
+
+        CountDownLatch delivered = new CountDownLatch(count * broadcasts);
+        for (StompSession session : sessions) {
+            session.subscribe(TOPIC, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    delivered.countDown();
+                }
+            });
+        }
+        awaitSubscriptions(count);
+
+        Map<String, Object> payload = samplePayload();
+        long start = System.nanoTime();
+        for (int i = 0; i < broadcasts; i++) {
+            messagingTemplate.convertAndSend(TOPIC, payload);
+        }
+        boolean complete = delivered.await(120, TimeUnit.SECONDS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (report) {
+            System.out.printf("%-15s %d connections: %,8.0f deliveries/s, heap %,7d B/conn, rss %,7d B/conn%s%n",
+                    label, count, (count * (long) broadcasts - delivered.getCount()) / seconds,
+                    heapPerConnection, rssPerConnection, complete ? "" : " (incomplete)");
+        }
+        closeAll();
+        assertTrue(complete, label + ": not every subscriber received every broadcast");
+    }
+
+    private void awaitSubscriptions(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (simpUserRegistry.findSubscriptions(s -> TOPIC.equals(s.getDestination())).size() < count
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private void closeAll() throws InterruptedException {
+        sessions.forEach(StompSession::disconnect);
+        sessions.clear();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (sessionRegistry.getSessionCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    /** Roughly the size and shape of a task event. */
+    private static Map<String, Object> samplePayload() {
+        return Map.of(
+                "type", "TASK_UPDATED",
+                "task", Map.of(
+                        "id", 42,
+                        "title", "Prepare quarterly planning review",
+                        "description", "Collect status from every team, reconcile the roadmap with the budget "
+                                + "and prepare the slides for the review meeting with the leadership group.",
+                        "status", "IN_PROGRESS",
+                        "priority", "HIGH",
+                        "assignedUserId", 7,
+                        "createdBy", 3,
+                        "createdAt", "2024-01-15T10:30:00",
+                        "updatedAt", "2024-01-16T08:12:45",
+                        "version", 12));
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long rss() throws IOException {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+            }
+        }
+        return 0;
+    }
+}
@@ -5,6 +5,7 @@ import com.taskmanagement.dto.LoginRequest;
 import com.taskmanagement.dto.RegisterRequest;
 import com.taskmanagement.entity.Role;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.service.RefreshTokenService;
 import com.taskmanagement.service.UserService;
 import com.taskmanagement.service.UserDetailsServiceImpl;
 import com.taskmanagement.util.JwtUtils;
@@ -49,6 +50,9 @@ class AuthControllerTest {
     @MockitoBean
     private UserDetailsServiceImpl userDetailsService;
 
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -81,13 +85,12 @@ class AuthControllerTest {
     void register_WithValidRequest_ShouldReturnSuccess() throws Exception {
         // Given
         String jwtToken = "mock.jwt.token";
-        Authentication authentication = new UsernamePasswordAuthenticationToken("testuser", null);
 
         when(userService.existsByUsername("testuser")).thenReturn(false);
         when(userService.existsByEmail("test@example.com")).thenReturn(false);
         when(userService.createUser(anyString(), anyString(), anyString())).thenReturn(testUser);
-        when(authenticationManager.authenticate(any())).thenReturn(authentication);
-        when(jwtUtils.generateJwtToken(authentication)).thenReturn(jwtToken);
+        when(jwtUtils.generateAccessToken(testUser)).thenReturn(jwtToken);
+        when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
 
         // When & Then
         mockMvc.perform(post("/api/auth/register")
@@ -96,6 +99,7 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(registerRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value(jwtToken))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-token"))
                 .andExpect(jsonPath("$.username").value("testuser"))
                 .andExpect(jsonPath("$.email").value("test@example.com"))
                 .andExpect(jsonPath("$.role").value("USER"));
@@ -103,8 +107,8 @@ class AuthControllerTest {
         verify(userService).existsByUsername("testuser");
         verify(userService).existsByEmail("test@example.com");
         verify(userService).createUser("testuser", "test@example.com", "password123");
-        verify(authenticationManager).authenticate(any());
-        verify(jwtUtils).generateJwtToken(authentication);
+        verify(authenticationManager, never()).authenticate(any());
+        verify(jwtUtils).generateAccessToken(testUser);
     }
 
 
@@ -119,7 +123,8 @@ class AuthControllerTest {
         Authentication authentication = new UsernamePasswordAuthenticationToken("testuser", null);
 
         when(authenticationManager.authenticate(any())).thenReturn(authentication);
-        when(jwtUtils.generateJwtToken(authentication)).thenReturn(jwtToken);
+        when(jwtUtils.generateAccessToken(testUser)).thenReturn(jwtToken);
+        when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
         when(userService.findByUsername("testuser")).thenReturn(java.util.Optional.of(testUser));
 
         // When & Then
@@ -134,7 +139,8 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.role").value("USER"));
 
         verify(authenticationManager).authenticate(any());
-        verify(jwtUtils).generateJwtToken(authentication);
+        verify(jwtUtils).generateAccessToken(testUser);
+        verify(refreshTokenService).issue(testUser);
         verify(userService).findByUsername("testuser");
     }
 
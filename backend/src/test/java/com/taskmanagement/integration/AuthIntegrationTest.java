@@ -2,16 +2,22 @@ package com.taskmanagement.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskmanagement.dto.LoginRequest;
+import com.taskmanagement.dto.RefreshRequest;
 import com.taskmanagement.dto.RegisterRequest;
 import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.RevokedToken;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.RefreshTokenRepository;
+import com.taskmanagement.repository.RevokedTokenRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.TokenDenylist;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,7 +25,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +52,15 @@ class AuthIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private TokenDenylist tokenDenylist;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -140,6 +160,117 @@ class AuthIntegrationTest {
                 .andExpect(jsonPath("$.role").value("USER"));
     }
 
+    @Test
+    void login_WithLegacyHash_ShouldRehashStoredPassword() throws Exception {
+        // Given - A user whose hash predates the {bcrypt} prefix and current cost
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+        User user = new User("legacyuser", "legacy@example.com", legacyHash);
+        user.setRole(Role.USER);
+        userRepository.save(user);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("legacyuser");
+        loginRequest.setPassword("password123");
+
+        // When
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk());
+
+        // Then - The stored hash was upgraded and still verifies
+        String storedHash = userRepository.findByUsername("legacyuser").orElseThrow().getPassword();
+        assertTrue(storedHash.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("password123", storedHash));
+        assertFalse(passwordEncoder.upgradeEncoding(storedHash));
+    }
+
+    @Test
+    void logout_ShouldRevokeToken() throws Exception {
+        // Given
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setUsername("leaving");
+        registerRequest.setEmail("leaving@example.com");
+        registerRequest.setPassword("password123");
+        String resp = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(resp).get("token").asText();
+
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // Then - The token is rejected and the revocation is persisted
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer error=\"invalid_token\""));
+        assertTrue(revokedTokenRepository.findAll().stream().anyMatch(r -> r.getExpiresAt().isAfter(LocalDateTime.now())));
+    }
+
+    @Test
+    void refresh_ShouldRotateTokensAndRevokeFamilyOnReuse() throws Exception {
+        // Given
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setUsername("refresher");
+        registerRequest.setEmail("refresher@example.com");
+        registerRequest.setPassword("password123");
+        String resp = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andReturn().getResponse().getContentAsString();
+        String first = objectMapper.readTree(resp).get("refreshToken").asText();
+
+        // When - The refresh token is exchanged
+        resp = mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest(first))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("refresher"))
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = objectMapper.readTree(resp).get("token").asText();
+        String second = objectMapper.readTree(resp).get("refreshToken").asText();
+
+        // Then - The new pair works and only hashes are stored
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        assertTrue(refreshTokenRepository.findAll().stream()
+                .noneMatch(t -> t.getTokenHash().equals(first) || t.getTokenHash().equals(second)));
+
+        // When - The consumed token is replayed, the whole family is revoked
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest(first))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest(second))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void denylist_ShouldPickUpRevocationsFromOtherInstances() {
+        // Given - A revocation written by another replica
+        revokedTokenRepository.save(new RevokedToken("other-instance-jti", LocalDateTime.now().plusHours(1)));
+        revokedTokenRepository.save(new RevokedToken("expired-jti", LocalDateTime.now().minusMinutes(1)));
+        assertFalse(tokenDenylist.isRevoked("other-instance-jti"));
+
+        // When
+        tokenDenylist.poll();
+
+        // Then
+        assertTrue(tokenDenylist.isRevoked("other-instance-jti"));
+        assertFalse(tokenDenylist.isRevoked("expired-jti"));
+        assertFalse(tokenDenylist.isRevoked("never-revoked"));
+    }
+
     @Test
     void login_WithInvalidCredentials_ShouldReturnUnauthorized() throws Exception {
         // Given - Create a user first
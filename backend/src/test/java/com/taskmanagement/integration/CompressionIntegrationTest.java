@@ -0,0 +1,111 @@
+package com.taskmanagement.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks compression through the real Tomcat connector, which MockMvc bypasses. The threshold is lowered
+ * so that a single task, whose validated fields stay under the default 2KB, counts as a large response.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.compression.min-response-size=256")
+@ActiveProfiles("test")
+class CompressionIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void taskResponse_WithStrongETag_ShouldBeGzippedUnderItsOwnTag() throws Exception {
+        String token = objectMapper.readTree(send(HttpRequest.newBuilder(uri("/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"gzipper\",\"email\":\"gzipper@example.com\",\"password\":\"password123\"}"))
+                .build()).body()).get("token").asText();
+
+        HttpResponse<byte[]> created = send(HttpRequest.newBuilder(uri("/api/tasks"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Large task\",\"description\":\""
+                        + "a long description ".repeat(25) + "\",\"status\":\"TODO\",\"priority\":\"MEDIUM\"}"))
+                .build());
+        assertEquals(200, created.statusCode());
+        long taskId = objectMapper.readTree(created.body()).get("id").asLong();
+
+        HttpResponse<byte[]> task = send(HttpRequest.newBuilder(uri("/api/tasks/" + taskId))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+                .GET().build());
+
+        assertEquals(200, task.statusCode());
+        assertEquals("\"0.0-gzip\"", task.headers().firstValue("ETag").orElse(null));
+        assertEquals("gzip", task.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(varies(task, "Accept"));
+        assertTrue(varies(task, "Accept-Encoding"));
+        assertEquals("Large task", gunzip(task.body()).get("title").asText());
+
+        HttpResponse<byte[]> identity = send(HttpRequest.newBuilder(uri("/api/tasks/" + taskId))
+                .header("Authorization", "Bearer " + token)
+                .GET().build());
+        assertEquals("\"0.0\"", identity.headers().firstValue("ETag").orElse(null));
+        assertTrue(identity.headers().firstValue("Content-Encoding").isEmpty());
+
+        HttpResponse<byte[]> notModified = send(HttpRequest.newBuilder(uri("/api/tasks/" + taskId))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"0.0-gzip\"")
+                .GET().build());
+        assertEquals(304, notModified.statusCode());
+        assertEquals("\"0.0-gzip\"", notModified.headers().firstValue("ETag").orElse(null));
+
+        HttpResponse<byte[]> deleted = send(HttpRequest.newBuilder(uri("/api/tasks/" + taskId))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+                .header("If-Match", "\"0.0-gzip\"")
+                .DELETE().build());
+        assertEquals(200, deleted.statusCode());
+    }
+
+    private static boolean varies(HttpResponse<?> response, String header) {
+        return response.headers().allValues("Vary").stream()
+                .flatMap(v -> Arrays.stream(v.split(",")))
+                .anyMatch(v -> v.trim().equalsIgnoreCase(header));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return objectMapper.readTree(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskmanagement.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.RegisterRequest;
+import com.taskmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureWebMvc
+@Transactional
+@TestPropertySource(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.capacity=4",
+        "rate-limit.refill-per-second=0.1",
+        "rate-limit.costs=POST /api/auth/**=1,GET /api/tasks/search=3"
+})
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        userRepository.deleteAll();
+    }
+
+    private String register(String username, String remoteAddr) throws Exception {
+        RegisterRequest reg = new RegisterRequest();
+        reg.setUsername(username);
+        reg.setEmail(username + "@example.com");
+        reg.setPassword("password123");
+
+        String resp = mockMvc.perform(post("/api/auth/register")
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(reg)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resp).get("token").asText();
+    }
+
+    @Test
+    void requestsBeyondBucket_ShouldReturn429PerUser() throws Exception {
+        String alice = register("alice", "10.0.0.1");
+        String bob = register("bob", "10.0.0.2");
+        double throttledBefore = meterRegistry.get("rate.limit.throttled").tag("key", "user").counter().count();
+
+        // Search costs 3 of alice's 4 tokens, leaving one plain read
+        mockMvc.perform(get("/api/tasks/search").param("q", "x").header("Authorization", "Bearer " + alice))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + alice))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + alice))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // Bob has his own bucket
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + bob))
+                .andExpect(status().isOk());
+
+        assertEquals(throttledBefore + 1,
+                meterRegistry.get("rate.limit.throttled").tag("key", "user").counter().count());
+    }
+
+    @Test
+    void anonymousRequests_ShouldBeLimitedPerAddress() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                    .with(request -> {
+                        request.setRemoteAddr("10.0.0.9");
+                        return request;
+                    })
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"username\":\"nobody\",\"password\":\"wrongpass\"}"))
+                    .andExpect(status().isForbidden());
+        }
+        mockMvc.perform(post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr("10.0.0.9");
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"nobody\",\"password\":\"wrongpass\"}"))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -1,14 +1,21 @@
 package com.taskmanagement.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.taskmanagement.activity.ActivityWriter;
 import com.taskmanagement.dto.LoginRequest;
 import com.taskmanagement.dto.RegisterRequest;
 import com.taskmanagement.dto.TaskCreateRequest;
 import com.taskmanagement.dto.TaskUpdateRequest;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.ActivityType;
 import com.taskmanagement.entity.Priority;
 import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.repository.ActivityRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ActivityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +28,13 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +58,15 @@ class TaskIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ActivityWriter activityWriter;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -143,4 +166,454 @@ class TaskIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(org.hamcrest.Matchers.containsString("Task deleted successfully")));
     }
+
+    @Test
+    void queryTasks_ShouldFilterAndPaginateByKeyset() throws Exception {
+        String token = registerAndLogin("filterer", "filterer@example.com", "password1");
+
+        for (Priority priority : new Priority[]{Priority.HIGH, Priority.LOW, Priority.HIGH, Priority.HIGH}) {
+            TaskCreateRequest req = new TaskCreateRequest();
+            req.setTitle("Task " + priority);
+            req.setStatus(TaskStatus.TODO);
+            req.setPriority(priority);
+            mockMvc.perform(post("/api/tasks")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isOk());
+        }
+
+        String firstPage = mockMvc.perform(post("/api/tasks/query")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priorities\":[\"HIGH\"],\"sort\":\"ID\",\"direction\":\"ASC\",\"limit\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(post("/api/tasks/query")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priorities\":[\"HIGH\"],\"sort\":\"ID\",\"direction\":\"ASC\",\"limit\":2,\"after\":\"" + cursor + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void queryTasks_WithNullSortOrForeignCursor_ShouldReturnBadRequest() throws Exception {
+        String token = registerAndLogin("cursoruser", "cursor@example.com", "password123");
+        for (int i = 0; i < 2; i++) {
+            TaskCreateRequest req = new TaskCreateRequest();
+            req.setTitle("Task " + i);
+            req.setStatus(TaskStatus.TODO);
+            req.setPriority(Priority.LOW);
+            mockMvc.perform(post("/api/tasks")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/api/tasks/query")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sort\":null,\"limit\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.sort").value("Sort is required"));
+
+        String firstPage = mockMvc.perform(post("/api/tasks/query")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sort\":\"ID\",\"direction\":\"ASC\",\"limit\":1}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(post("/api/tasks/query")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sort\":\"ID\",\"direction\":\"DESC\",\"limit\":1,\"after\":\"" + cursor + "\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void activityWriter_ShouldSkipActivitiesOfAlreadyWrittenSourceEvents() {
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 9, 0);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Activity status = new Activity(9002L, ActivityType.STATUS_CHANGED, null, "relay", "Status: TODO → DONE");
+            Activity update = new Activity(9002L, ActivityType.UPDATED, null, "relay", "title: a → b");
+            for (Activity activity : List.of(status, update)) {
+                activity.setSourceEventId(77L);
+                activity.setCreatedAt(at);
+            }
+            activityWriter.write(List.of(status, update));
+        }
+
+        assertEquals(2, activityRepository.findBySourceEventIdIn(List.of(77L)).size());
+    }
+
+    @Test
+    void activityFeed_ShouldPageNewestFirstByKeyset() throws Exception {
+        String token = registerAndLogin("feeduser", "feed@example.com", "password123");
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 9, 0);
+        List<Activity> written = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Activity activity = new Activity(9001L, ActivityType.UPDATED, null, "feeduser", "change " + i);
+            activity.setCreatedAt(base.plusMinutes(i));
+            written.add(activity);
+        }
+        activityWriter.write(written);
+        activityService.addRecent(written);
+        assertTrue(written.stream().allMatch(a -> a.getId() != null));
+
+        String firstPage = mockMvc.perform(get("/api/activities/feed")
+                .header("Authorization", "Bearer " + token)
+                .param("taskId", "9001")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].detail").value("change 2"))
+                .andExpect(jsonPath("$.items[1].detail").value("change 1"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/activities/feed")
+                .header("Authorization", "Bearer " + token)
+                .param("taskId", "9001")
+                .param("limit", "2")
+                .param("after", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].detail").value("change 0"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void comments_ShouldMaintainTaskSummaryAndPageByKeyset() throws Exception {
+        String token = registerAndLogin("commenter", "commenter@example.com", "password123");
+
+        TaskCreateRequest create = new TaskCreateRequest();
+        create.setTitle("Discussed task");
+        create.setStatus(TaskStatus.TODO);
+        create.setPriority(Priority.MEDIUM);
+        String created = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(0))
+                .andReturn().getResponse().getContentAsString();
+        long taskId = objectMapper.readTree(created).get("id").asLong();
+
+        long lastCommentId = 0;
+        for (int i = 1; i <= 3; i++) {
+            String comment = mockMvc.perform(post("/api/comments")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"taskId\":" + taskId + ",\"content\":\"comment " + i + "\"}"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            lastCommentId = objectMapper.readTree(comment).get("id").asLong();
+        }
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(3))
+                .andExpect(jsonPath("$.lastCommentAt").exists());
+
+        String firstPage = mockMvc.perform(get("/api/comments/task/" + taskId + "/page")
+                .header("Authorization", "Bearer " + token)
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].content").value("comment 1"))
+                .andExpect(jsonPath("$.items[0].authorUsername").value("commenter"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/comments/task/" + taskId + "/page")
+                .header("Authorization", "Bearer " + token)
+                .param("limit", "2")
+                .param("after", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].content").value("comment 3"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        mockMvc.perform(delete("/api/comments/" + lastCommentId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(2));
+    }
+
+    @Test
+    void taskHistory_ShouldReconstructEveryVersion() throws Exception {
+        String token = registerAndLogin("historian", "historian@example.com", "password123");
+
+        TaskCreateRequest create = new TaskCreateRequest();
+        create.setTitle("Original title");
+        create.setStatus(TaskStatus.TODO);
+        create.setPriority(Priority.LOW);
+        String created = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long taskId = objectMapper.readTree(created).get("id").asLong();
+
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setTitle("Renamed");
+        update.setStatus(TaskStatus.TODO);
+        update.setPriority(Priority.LOW);
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        update.setStatus(TaskStatus.DONE);
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token)
+                .param("version", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state.title").value("Original title"))
+                .andExpect(jsonPath("$.state.status").value("TODO"));
+
+        mockMvc.perform(get("/api/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token)
+                .param("version", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state.title").value("Renamed"))
+                .andExpect(jsonPath("$.state.status").value("DONE"))
+                .andExpect(jsonPath("$.state.deleted").value(false));
+
+        mockMvc.perform(get("/api/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(4))
+                .andExpect(jsonPath("$.state.title").value("Renamed"))
+                .andExpect(jsonPath("$.state.deleted").value(true));
+
+        mockMvc.perform(get("/api/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token)
+                .param("at", "2000-01-01T00:00:00"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void conditionalWrites_ShouldRejectStaleIfMatch() throws Exception {
+        String token = registerAndLogin("editor", "editor@example.com", "password123");
+
+        TaskCreateRequest create = new TaskCreateRequest();
+        create.setTitle("Contended task");
+        create.setStatus(TaskStatus.TODO);
+        create.setPriority(Priority.MEDIUM);
+        String created = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0.0\""))
+                .andReturn().getResponse().getContentAsString();
+        long taskId = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(post("/api/comments")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskId\":" + taskId + ",\"content\":\"does not conflict with edits\"}"))
+                .andExpect(status().isOk());
+
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setTitle("First edit");
+        update.setStatus(TaskStatus.IN_PROGRESS);
+        update.setPriority(Priority.MEDIUM);
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        update.setTitle("Stale edit");
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "W/\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "\"latest\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.1\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andExpect(jsonPath("$.title").value("First edit"));
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "W/\"1.1\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "\"1.1\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void conditionalReads_ShouldReturnNotModifiedUntilTasksChange() throws Exception {
+        String token = registerAndLogin("reader", "reader@example.com", "password123");
+
+        TaskCreateRequest create = new TaskCreateRequest();
+        create.setTitle("Cached task");
+        create.setStatus(TaskStatus.TODO);
+        create.setPriority(Priority.MEDIUM);
+        String created = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long taskId = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", "\"0.0\""))
+                .andExpect(status().isNotModified());
+
+        String listETag = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn().getResponse().getHeader("ETag");
+        assertTrue(listETag.startsWith("W/"));
+
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", listETag)
+                .param("status", "TODO"))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/comments")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskId\":" + taskId + ",\"content\":\"changes the summary\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", "\"0.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0.1\""));
+
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", listETag)
+                .param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].commentCount").value(1));
+    }
+
+    @Test
+    void taskList_ShouldNegotiateCbor() throws Exception {
+        String token = registerAndLogin("compact", "compact@example.com", "password123");
+
+        TaskCreateRequest create = new TaskCreateRequest();
+        create.setTitle("Binary task");
+        create.setStatus(TaskStatus.TODO);
+        create.setPriority(Priority.HIGH);
+        mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isOk());
+
+        byte[] body = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode tasks = new CBORMapper().readTree(body);
+        assertEquals(1, tasks.size());
+        assertEquals("Binary task", tasks.get(0).get("title").asText());
+        assertEquals("HIGH", tasks.get(0).get("priority").asText());
+    }
+
+    @Test
+    void sparseFieldsets_ShouldReturnOnlyRequestedFields() throws Exception {
+        String token = registerAndLogin("sparse", "sparse@example.com", "password123");
+
+        TaskCreateRequest create = new TaskCreateRequest();
+        create.setTitle("Narrow task");
+        create.setDescription("Long description nobody asked for");
+        create.setStatus(TaskStatus.IN_PROGRESS);
+        create.setPriority(Priority.LOW);
+        String created = mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long taskId = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .param("fields", "title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskId))
+                .andExpect(jsonPath("$[0].title").value("Narrow task"))
+                .andExpect(jsonPath("$[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].priority").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .param("fields", "priority"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0.0\""))
+                .andExpect(jsonPath("$.priority").value("LOW"))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andExpect(jsonPath("$.title").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .param("fields", "title,secret"))
+                .andExpect(status().isBadRequest());
+    }
 }
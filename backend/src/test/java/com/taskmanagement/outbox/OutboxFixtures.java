@@ -0,0 +1,70 @@
+package com.taskmanagement.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.event.CommentChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.UserCreatedEvent;
+import com.taskmanagement.repository.OutboxEventRepository;
+import com.taskmanagement.service.OutboxService;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Builds the outbox events {@link OutboxService} records for application events, for testing sinks
+ * against real payloads.
+ */
+public final class OutboxFixtures {
+
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private OutboxFixtures() {}
+
+    /**
+     * @param event a task change
+     * @return the outbox event recorded for it
+     */
+    public static OutboxEvent outboxEvent(TaskChangedEvent event) {
+        return record(service -> service.onTaskChanged(event));
+    }
+
+    /**
+     * @param event a comment change
+     * @return the outbox event recorded for it
+     */
+    public static OutboxEvent outboxEvent(CommentChangedEvent event) {
+        return record(service -> service.onCommentChanged(event));
+    }
+
+    /**
+     * @param event a user creation
+     * @return the outbox event recorded for it
+     */
+    public static OutboxEvent outboxEvent(UserCreatedEvent event) {
+        return record(service -> service.onUserCreated(event));
+    }
+
+    private static OutboxEvent record(Consumer<OutboxService> publish) {
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        OutboxService service = new OutboxService();
+        ReflectionTestUtils.setField(service, "outboxEventRepository", repository);
+        ReflectionTestUtils.setField(service, "objectMapper", OBJECT_MAPPER);
+        publish.accept(service);
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(repository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+        event.setId(IDS.incrementAndGet());
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+}
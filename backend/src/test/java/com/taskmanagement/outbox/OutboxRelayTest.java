@@ -0,0 +1,307 @@
+package com.taskmanagement.outbox;
+
+import com.taskmanagement.entity.OutboxCursor;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.repository.OutboxCursorRepository;
+import com.taskmanagement.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxCursorRepository outboxCursorRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OutboxRelay relay;
+
+    private final List<Long> delivered = new ArrayList<>();
+    private final List<Long> deliveredLocally = new ArrayList<>();
+    private final OutboxCursor sharedCursor = new OutboxCursor("test", 2L);
+    private final LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+    private boolean failing;
+
+    private final OutboxSink sharedSink = new OutboxSink() {
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public void deliver(List<OutboxEvent> events) throws Exception {
+            if (failing) {
+                throw new IllegalStateException("sink down");
+            }
+            events.forEach(e -> delivered.add(e.getId()));
+        }
+    };
+
+    private final OutboxSink localSink = new OutboxSink() {
+        @Override
+        public String name() {
+            return "local";
+        }
+
+        @Override
+        public boolean perInstance() {
+            return true;
+        }
+
+        @Override
+        public String upstream() {
+            return "test";
+        }
+
+        @Override
+        public void deliver(List<OutboxEvent> events) {
+            events.forEach(e -> deliveredLocally.add(e.getId()));
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "gapTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(relay, "maxBackoffMs", 60000L);
+        ReflectionTestUtils.setField(relay, "instanceId", "a");
+        ReflectionTestUtils.setField(relay, "instanceTimeoutMs", 300000L);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(outboxCursorRepository.existsById("test")).thenReturn(true);
+        lenient().when(outboxCursorRepository.findById("test")).thenAnswer(inv -> Optional.of(sharedCursor));
+        lenient().when(outboxCursorRepository.findForUpdate("test")).thenReturn(Optional.of(sharedCursor));
+        lenient().when(outboxEventRepository.existsByIdGreaterThan(anyLong())).thenReturn(true);
+    }
+
+    private void useSinks(OutboxSink... sinks) {
+        ReflectionTestUtils.setField(relay, "sinks", List.of(sinks));
+        relay.init();
+    }
+
+    private OutboxEvent event(long id, LocalDateTime createdAt) {
+        OutboxEvent event = new OutboxEvent(OutboxEvent.TASK, id, "UPDATED", "{}");
+        event.setId(id);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+
+    private void eventsAfter(long cursor, List<OutboxEvent> events) {
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(cursor), any(Pageable.class))).thenReturn(events);
+    }
+
+    @Test
+    void relay_ShouldDeliverAfterLockedCursorAndAdvanceIt() {
+        useSinks(sharedSink);
+        eventsAfter(2L, List.of(event(3, old), event(4, old)));
+
+        relay.relay();
+
+        assertEquals(List.of(3L, 4L), delivered);
+        assertEquals(4L, sharedCursor.getLastEventId());
+        verify(outboxCursorRepository).findForUpdate("test");
+    }
+
+    @Test
+    void relay_WhenNothingIsPending_ShouldNotLockCursor() {
+        useSinks(sharedSink);
+        when(outboxEventRepository.existsByIdGreaterThan(2L)).thenReturn(false);
+
+        relay.relay();
+
+        verify(outboxCursorRepository, never()).findForUpdate(anyString());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void relay_ShouldStopAtRecentGap() {
+        useSinks(sharedSink);
+        eventsAfter(2L, List.of(event(3, old), event(5, LocalDateTime.now())));
+
+        relay.relay();
+
+        assertEquals(List.of(3L), delivered);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void relay_WhenSettledGapWasRolledBack_ShouldFillItAndContinue() {
+        useSinks(sharedSink);
+        eventsAfter(2L, List.of(event(3, old), event(5, old)));
+        OutboxEvent placeholder = event(4, LocalDateTime.now());
+        placeholder.setAggregateType(OutboxEvent.GAP);
+        eventsAfter(3L, List.of(placeholder, event(5, old)));
+
+        relay.relay();
+
+        verify(jdbcTemplate).update(anyString(), eq(4L), eq(OutboxEvent.GAP), eq(OutboxEvent.GAP), any());
+        assertEquals(List.of(3L, 4L, 5L), delivered);
+        assertEquals(5L, sharedCursor.getLastEventId());
+    }
+
+    @Test
+    void relay_WhenSettledGapCommittedLate_ShouldDeliverRealEvent() {
+        useSinks(sharedSink);
+        eventsAfter(2L, List.of(event(3, old), event(5, old)));
+        eventsAfter(3L, List.of(event(4, old), event(5, old)));
+        when(jdbcTemplate.update(anyString(), eq(4L), any(), any(), any())).thenThrow(new DuplicateKeyException("exists"));
+
+        relay.relay();
+
+        assertEquals(List.of(3L, 4L, 5L), delivered);
+    }
+
+    @Test
+    void relay_WhenSettledGapIsStillHeld_ShouldWait() {
+        useSinks(sharedSink);
+        eventsAfter(2L, List.of(event(3, old), event(5, old)));
+        when(jdbcTemplate.update(anyString(), eq(4L), any(), any(), any())).thenThrow(new CannotAcquireLockException("held"));
+
+        relay.relay();
+
+        assertEquals(List.of(3L), delivered);
+        assertEquals(3L, sharedCursor.getLastEventId());
+    }
+
+    @Test
+    void relay_WhenSinkFails_ShouldKeepCursorAndBackOff() {
+        useSinks(sharedSink);
+        eventsAfter(2L, List.of(event(3, old)));
+        failing = true;
+
+        relay.relay();
+        failing = false;
+        relay.relay();
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(2L, sharedCursor.getLastEventId());
+        verify(outboxEventRepository, times(1)).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void relay_PerInstanceSink_ShouldStartAtUpstreamCursorAndStayBehindIt() {
+        useSinks(localSink);
+        sharedCursor.setLastEventId(3L);
+        eventsAfter(3L, List.of(event(4, old)));
+
+        relay.relay();
+        assertTrue(deliveredLocally.isEmpty());
+
+        sharedCursor.setLastEventId(4L);
+        relay.relay();
+
+        assertEquals(List.of(4L), deliveredLocally);
+        ArgumentCaptor<OutboxCursor> saved = ArgumentCaptor.forClass(OutboxCursor.class);
+        verify(outboxCursorRepository, atLeastOnce()).save(saved.capture());
+        assertEquals("local@a", saved.getValue().getSink());
+        assertEquals(4L, saved.getValue().getLastEventId());
+        verify(outboxCursorRepository, never()).findForUpdate(anyString());
+    }
+
+    @Test
+    void relay_LoadingSink_ShouldPlaceCursorBeforeUnsettledEventsThenLoad() {
+        List<String> calls = new ArrayList<>();
+        OutboxSink loadingSink = new OutboxSink() {
+            @Override
+            public String name() {
+                return "cache";
+            }
+
+            @Override
+            public boolean perInstance() {
+                return true;
+            }
+
+            @Override
+            public boolean loadsState() {
+                return true;
+            }
+
+            @Override
+            public void load() {
+                if (failing) {
+                    throw new IllegalStateException("database down");
+                }
+                calls.add("load");
+            }
+
+            @Override
+            public void deliver(List<OutboxEvent> events) {
+                events.forEach(e -> calls.add("deliver " + e.getId()));
+            }
+        };
+        useSinks(loadingSink);
+        when(outboxEventRepository.findMaxId()).thenReturn(7L);
+        when(outboxEventRepository.findMaxIdCreatedBefore(any())).thenReturn(5L);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(event(6, old), event(7, LocalDateTime.now())));
+        failing = true;
+
+        relay.relay();
+        assertTrue(calls.isEmpty());
+
+        failing = false;
+        relay.relay();
+
+        assertEquals(List.of("load", "deliver 6", "deliver 7"), calls);
+        ArgumentCaptor<OutboxCursor> saved = ArgumentCaptor.forClass(OutboxCursor.class);
+        verify(outboxCursorRepository, atLeastOnce()).save(saved.capture());
+        assertEquals(5L, saved.getAllValues().get(0).getLastEventId());
+        assertEquals(7L, saved.getValue().getLastEventId());
+    }
+
+    @Test
+    void prune_ShouldDeleteUpToSlowestLiveCursorAndDropStoppedInstances() {
+        useSinks(sharedSink, localSink);
+        sharedCursor.setLastEventId(9L);
+        OutboxCursor slowInstance = new OutboxCursor("local@b", 4L);
+        OutboxCursor stoppedInstance = new OutboxCursor("local@c", 1L);
+        stoppedInstance.setUpdatedAt(LocalDateTime.now().minusHours(1));
+        when(outboxCursorRepository.findBySinkStartingWith("local@"))
+                .thenReturn(List.of(new OutboxCursor("local@a", 9L), slowInstance, stoppedInstance));
+
+        relay.prune();
+
+        verify(outboxCursorRepository).delete(stoppedInstance);
+        verify(outboxEventRepository).deleteUpTo(4L);
+    }
+
+    @Test
+    void prune_ShouldDeleteEventsDeliveredToEverySink() {
+        useSinks(sharedSink);
+
+        relay.prune();
+
+        verify(outboxEventRepository).deleteUpTo(2L);
+    }
+}
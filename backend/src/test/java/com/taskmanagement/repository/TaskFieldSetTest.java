@@ -0,0 +1,35 @@
+package com.taskmanagement.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFieldSetTest {
+
+    @Test
+    void parse_ShouldOrderFieldsAndAlwaysIncludeId() {
+        TaskFieldSet fields = TaskFieldSet.parse("status, title,title");
+        assertEquals(List.of("id", "title", "status"), fields.fields());
+    }
+
+    @Test
+    void parse_WhenBlank_ShouldReturnNull() {
+        assertNull(TaskFieldSet.parse(null));
+        assertNull(TaskFieldSet.parse("  "));
+    }
+
+    @Test
+    void parse_WhenFieldUnknown_ShouldThrow() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> TaskFieldSet.parse("title,comments"));
+        assertTrue(ex.getMessage().contains("comments"));
+    }
+
+    @Test
+    void with_ShouldAddFieldsInCanonicalOrder() {
+        TaskFieldSet fields = TaskFieldSet.parse("title").with("version", "id");
+        assertEquals(List.of("id", "title", "version"), fields.fields());
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.dto.TaskFilter;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavedFilterIndexTest {
+
+    private SavedFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SavedFilterIndex();
+
+        TaskFilter myInProgress = new TaskFilter();
+        myInProgress.setStatuses(Set.of(TaskStatus.IN_PROGRESS));
+        myInProgress.setAssigneeIds(Set.of(7L));
+        index.register(1L, myInProgress, List.of(10L));
+
+        TaskFilter urgent = new TaskFilter();
+        urgent.setText("urgent");
+        index.register(2L, urgent, List.of());
+    }
+
+    private Task task(Long id, String title, TaskStatus status, Long assigneeId) {
+        Task task = new Task(title, null, status, Priority.MEDIUM, assigneeId, 1L);
+        task.setId(id);
+        return task;
+    }
+
+    @Test
+    void apply_ShouldAddTaskThatStartsMatching() {
+        Task before = task(11L, "Write docs", TaskStatus.TODO, 7L);
+        Task after = task(11L, "Write docs", TaskStatus.IN_PROGRESS, 7L);
+
+        List<SavedFilterIndex.Delta> deltas = index.apply(before, after);
+
+        assertEquals(List.of(new SavedFilterIndex.Delta(1L, 11L, true)), deltas);
+        assertEquals(Set.of(10L, 11L), index.members(1L));
+    }
+
+    @Test
+    void apply_ShouldRemoveTaskThatStopsMatchingOrIsDeleted() {
+        Task inProgress = task(10L, "Fix login", TaskStatus.IN_PROGRESS, 7L);
+
+        assertEquals(List.of(new SavedFilterIndex.Delta(1L, 10L, false)),
+                index.apply(inProgress, task(10L, "Fix login", TaskStatus.IN_PROGRESS, 8L)));
+        assertTrue(index.members(1L).isEmpty());
+
+        index.apply(null, inProgress);
+        assertEquals(List.of(new SavedFilterIndex.Delta(1L, 10L, false)), index.apply(inProgress, null));
+    }
+
+    @Test
+    void apply_ShouldEvaluateUnindexedFiltersForEveryChange() {
+        Task created = task(12L, "URGENT: outage", TaskStatus.TODO, null);
+
+        assertEquals(List.of(new SavedFilterIndex.Delta(2L, 12L, true)), index.apply(null, created));
+        assertTrue(index.apply(created, created).isEmpty());
+    }
+
+    @Test
+    void unregister_ShouldDropView() {
+        index.unregister(1L);
+
+        assertNull(index.members(1L));
+        assertTrue(index.apply(null, task(13L, "Task", TaskStatus.IN_PROGRESS, 7L)).isEmpty());
+    }
+
+    @Test
+    void complete_ShouldReplayChangesRecordedWhileMembershipWasQueried() {
+        TaskFilter todo = new TaskFilter();
+        todo.setStatuses(Set.of(TaskStatus.TODO));
+        index.begin(3L, todo);
+
+        // committed after the membership query read its snapshot
+        assertTrue(index.apply(null, task(20L, "New", TaskStatus.TODO, null)).isEmpty());
+        index.apply(task(21L, "Started", TaskStatus.TODO, null), task(21L, "Started", TaskStatus.IN_PROGRESS, null));
+        index.apply(task(22L, "Gone", TaskStatus.TODO, null), null);
+
+        index.complete(3L, List.of(21L, 22L, 23L));
+
+        assertEquals(Set.of(20L, 23L), index.members(3L));
+        assertEquals(List.of(new SavedFilterIndex.Delta(3L, 23L, false)),
+                index.apply(task(23L, "Done", TaskStatus.TODO, null), task(23L, "Done", TaskStatus.DONE, null)));
+    }
+
+    @Test
+    void complete_AfterUnregister_ShouldNotResurrectView() {
+        index.begin(3L, new TaskFilter());
+        index.unregister(3L);
+
+        index.complete(3L, List.of(1L));
+
+        assertNull(index.members(3L));
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanagement.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex();
+        index.indexTask(1L, "Implement authentication", "JWT based login");
+        index.indexTask(2L, "Write docs", "Document the authentication flow");
+        index.indexTask(3L, "Fix layout", "Navbar overlaps content");
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseAndDropShortTokens() {
+        assertEquals(List.of("fix", "the", "jwt", "login"), TaskSearchIndex.tokenize("Fix a the JWT-login!"));
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        TaskSearchIndex.Result result = index.search("authentication", 0, 10);
+
+        assertEquals(2, result.total());
+        assertEquals(1L, result.hits().get(0).taskId());
+        assertEquals(2L, result.hits().get(1).taskId());
+    }
+
+    @Test
+    void search_ShouldMatchCommentsAndForgetRemovedOnes() {
+        index.indexComment(3L, 100L, "Reproduced on Safari only");
+        assertEquals(3L, index.search("safari", 0, 10).hits().get(0).taskId());
+
+        index.removeComment(3L, 100L);
+        assertEquals(0, index.search("safari", 0, 10).total());
+    }
+
+    @Test
+    void indexTask_ShouldReplacePreviousText() {
+        index.indexTask(3L, "Fix footer", null);
+
+        assertEquals(0, index.search("navbar", 0, 10).total());
+        assertEquals(1, index.search("footer", 0, 10).total());
+    }
+
+    @Test
+    void search_ShouldPaginateAndReportTotal() {
+        index.removeTask(3L);
+        TaskSearchIndex.Result page = index.search("authentication docs", 1, 1);
+
+        assertEquals(2, page.total());
+        assertEquals(1, page.hits().size());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void search_WithOffsetOrLimitBeyondResults_ShouldReturnEmptyOrClampedPage() {
+        assertTrue(index.search("authentication", Integer.MAX_VALUE, 10).hits().isEmpty());
+        assertEquals(2, index.search("authentication", -5, 10).hits().size());
+        assertEquals(1, index.search("authentication", 1, Integer.MAX_VALUE).hits().size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.dto.UserSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsernameIndexTest {
+
+    private UsernameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UsernameIndex();
+        index.rebuild(List.of(
+                new UserSuggestion(1L, "alice"),
+                new UserSuggestion(2L, "Alfred"),
+                new UserSuggestion(3L, "bob"),
+                new UserSuggestion(4L, "albert")));
+    }
+
+    private List<String> names(List<UserSuggestion> suggestions) {
+        return suggestions.stream().map(UserSuggestion::getUsername).collect(Collectors.toList());
+    }
+
+    @Test
+    void suggest_ShouldMatchPrefixIgnoringCaseInOrder() {
+        assertEquals(List.of("albert", "Alfred", "alice"), names(index.suggest("AL", 10)));
+    }
+
+    @Test
+    void suggest_ShouldHonourLimit() {
+        assertEquals(List.of("albert", "Alfred"), names(index.suggest("al", 2)));
+    }
+
+    @Test
+    void suggest_WithNoMatch_ShouldReturnEmpty() {
+        assertTrue(index.suggest("zed", 10).isEmpty());
+    }
+
+    @Test
+    void put_ShouldInsertInOrderAndReplaceExistingId() {
+        index.put(5L, "alma");
+        index.put(3L, "alan");
+
+        assertEquals(List.of("alan", "albert", "Alfred", "alice", "alma"), names(index.suggest("al", 10)));
+        assertTrue(index.suggest("bob", 10).isEmpty());
+        assertEquals(5, index.size());
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanagement.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BCryptCalibrationTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void strengthFor_ShouldDoubleCostPerStepUntilTarget() {
+        assertEquals(12, BCryptCalibration.strengthFor(60 * MS, 10, 16, 250 * MS));
+        assertEquals(11, BCryptCalibration.strengthFor(100 * MS, 10, 16, 250 * MS));
+    }
+
+    @Test
+    void strengthFor_ShouldStayWithinBounds() {
+        assertEquals(10, BCryptCalibration.strengthFor(400 * MS, 10, 16, 250 * MS));
+        assertEquals(16, BCryptCalibration.strengthFor(MS / 100, 10, 16, 250 * MS));
+    }
+
+    @Test
+    void calibrate_WithUpgradedStrength_ShouldFlagOlderHashes() {
+        int strength = BCryptCalibration.calibrate(Duration.ofMillis(1), 4, 6);
+        assertTrue(strength >= 4 && strength <= 6);
+
+        BCryptPasswordEncoder current = new BCryptPasswordEncoder(5);
+        assertTrue(current.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(current.upgradeEncoding(current.encode("secret")));
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "capacity", 2);
+        ReflectionTestUtils.setField(filter, "refillPerSecond", 1.0);
+        ReflectionTestUtils.setField(filter, "maxBuckets", 2);
+        ReflectionTestUtils.setField(filter, "costs", List.of());
+        filter.init();
+    }
+
+    @Test
+    void bucketFor_WhenFull_ShouldEvictLeastRecentlyUsedCallerInsteadOfSharing() {
+        long now = System.nanoTime();
+        TokenBucket active = filter.bucketFor("user:1", now);
+        TokenBucket idle = filter.bucketFor("user:2", now);
+        assertSame(active, filter.bucketFor("user:1", now));
+
+        TokenBucket newcomer = filter.bucketFor("ip:10.0.0.3", now);
+
+        assertNotSame(active, newcomer);
+        assertNotSame(idle, newcomer);
+        assertSame(active, filter.bucketFor("user:1", now));
+        assertEquals(2, filter.bucketCount());
+        assertNotSame(idle, filter.bucketFor("user:2", now));
+    }
+
+    @Test
+    void bucketFor_WhenFull_ShouldStillThrottleActiveCaller() {
+        long now = System.nanoTime();
+        long nanosPerToken = 1_000_000_000L;
+        TokenBucket bucket = filter.bucketFor("user:1", now);
+        assertEquals(0, bucket.tryConsume(2, now, nanosPerToken, 2));
+
+        filter.bucketFor("user:2", now);
+        filter.bucketFor("user:1", now);
+        filter.bucketFor("user:3", now);
+
+        assertTrue(filter.bucketFor("user:1", now).tryConsume(1, now, nanosPerToken, 2) > 0);
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.service.UserDetailsServiceImpl;
+import com.taskmanagement.service.UserDetailsServiceImpl.UserPrincipal;
+import com.taskmanagement.util.JwtUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private TokenDenylist tokenDenylist;
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    private final JwtUtils jwtUtils = new JwtUtils();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "mySecretKey12345678901234567890123456789012345678901234567890");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3600);
+        ReflectionTestUtils.setField(interceptor, "jwtUtils", jwtUtils);
+    }
+
+    private static Message<byte[]> connect(String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (token != null) {
+            accessor.setNativeHeader("Authorization", "Bearer " + token);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    void preSend_WithAccessToken_ShouldBuildPrincipalFromClaimsWithoutLookup() {
+        User user = new User("alice", "alice@example.com", "password", Role.ADMIN);
+        user.setId(7L);
+
+        Message<?> result = interceptor.preSend(connect(jwtUtils.generateAccessToken(user)), null);
+
+        UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken)
+                StompHeaderAccessor.wrap(result).getUser();
+        assertNotNull(auth);
+        UserPrincipal principal = (UserPrincipal) auth.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("alice", principal.getUsername());
+        assertTrue(auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void preSend_WithInvalidOrMissingToken_ShouldReject() {
+        assertThrows(MessagingException.class, () -> interceptor.preSend(connect("not.a.jwt"), null));
+        assertThrows(MessagingException.class, () -> interceptor.preSend(connect(null), null));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void preSend_WithRevokedToken_ShouldReject() {
+        User user = new User("alice", "alice@example.com", "password", Role.USER);
+        user.setId(7L);
+        when(tokenDenylist.isRevoked(any())).thenReturn(true);
+
+        assertThrows(MessagingException.class,
+                () -> interceptor.preSend(connect(jwtUtils.generateAccessToken(user)), null));
+    }
+}
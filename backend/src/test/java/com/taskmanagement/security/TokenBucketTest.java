@@ -0,0 +1,71 @@
+package com.taskmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long PER_TOKEN = SECOND / 10;
+
+    @Test
+    void tryConsume_ShouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryConsume(1, 0, PER_TOKEN, 5));
+        }
+        assertEquals(PER_TOKEN, bucket.tryConsume(1, 0, PER_TOKEN, 5));
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOverTimeAndReportWait() {
+        TokenBucket bucket = new TokenBucket(0);
+        assertEquals(0, bucket.tryConsume(5, 0, PER_TOKEN, 5));
+        assertEquals(3 * PER_TOKEN, bucket.tryConsume(3, 0, PER_TOKEN, 5));
+
+        assertEquals(0, bucket.tryConsume(3, 3 * PER_TOKEN, PER_TOKEN, 5));
+        assertFalse(bucket.isFull(3 * PER_TOKEN));
+        assertTrue(bucket.isFull(8 * PER_TOKEN));
+    }
+
+    @Test
+    void tryConsume_WithCostAboveCapacity_ShouldTakeWholeBucket() {
+        TokenBucket bucket = new TokenBucket(0);
+        assertEquals(0, bucket.tryConsume(50, 0, PER_TOKEN, 5));
+        assertTrue(bucket.tryConsume(1, 0, PER_TOKEN, 5) > 0);
+    }
+
+    @Test
+    void tryConsume_UnderContention_ShouldNeverExceedCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (bucket.tryConsume(1, 0, PER_TOKEN, 100) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(100, granted.get());
+    }
+}
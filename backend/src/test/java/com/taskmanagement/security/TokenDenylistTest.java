@@ -0,0 +1,75 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.RevokedToken;
+import com.taskmanagement.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenDenylistTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @InjectMocks
+    private TokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(denylist, "batchSize", 10);
+        ReflectionTestUtils.setField(denylist, "initialCapacity", 100);
+        ReflectionTestUtils.setField(denylist, "commitMarginMs", 60000L);
+    }
+
+    private static RevokedToken revoked(long id, String jti) {
+        RevokedToken token = new RevokedToken(jti, LocalDateTime.now().plusHours(1));
+        token.setId(id);
+        return token;
+    }
+
+    @Test
+    void poll_ShouldPickUpRevocationCommittedAfterHigherId() {
+        when(revokedTokenRepository.findRevokedSince(any(), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(revoked(2, "fast")))
+                .thenReturn(List.of(revoked(1, "slow"), revoked(2, "fast")));
+
+        assertEquals(1, denylist.poll());
+        assertFalse(denylist.isRevoked("slow"));
+
+        assertEquals(1, denylist.poll());
+        assertTrue(denylist.isRevoked("slow"));
+        assertTrue(denylist.isRevoked("fast"));
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository, times(2)).findRevokedSince(since.capture(), now.capture(), eq(0L), any(Pageable.class));
+        assertEquals(now.getAllValues().get(0).minusMinutes(1), since.getAllValues().get(1));
+    }
+
+    @Test
+    void revoke_WhenRevokedConcurrently_ShouldTreatTokenAsRevoked() {
+        when(revokedTokenRepository.save(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate jti"));
+
+        denylist.revoke("twice", Instant.now().plus(Duration.ofHours(1)));
+
+        assertTrue(denylist.isRevoked("twice"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.activity.ActivityArchive;
+import com.taskmanagement.entity.Activity;
+import com.taskmanagement.entity.ActivityType;
+import com.taskmanagement.repository.ActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityRetentionServiceTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private ActivityArchive activityArchive;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ActivityRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(retentionService, "enabled", true);
+        ReflectionTestUtils.setField(retentionService, "retentionDays", 90);
+        ReflectionTestUtils.setField(retentionService, "batchSize", 2);
+        ReflectionTestUtils.setField(retentionService, "lockTimeoutMs", 60000L);
+    }
+
+    private Activity activity(long id) {
+        return activity(id, 1L);
+    }
+
+    private Activity activity(long id, long taskId) {
+        Activity activity = new Activity(taskId, ActivityType.UPDATED, null, "alice", "old");
+        activity.setId(id);
+        activity.setCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0));
+        return activity;
+    }
+
+    @Test
+    void archiveExpired_ShouldArchiveAndDeleteBatchesUnderLease() {
+        when(jobLockService.tryLock(eq(ActivityRetentionService.LOCK_NAME), any())).thenReturn(true);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(activityRepository.findByCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(activity(1), activity(2)));
+        when(activityRepository.findByCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(any(), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(activity(3)));
+
+        assertEquals(3, retentionService.archiveExpired());
+
+        verify(activityArchive, times(2)).append(anyList());
+        verify(activityRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(activityRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(jobLockService).unlock(ActivityRetentionService.LOCK_NAME);
+    }
+
+    @Test
+    void archiveExpired_WhenTaskCannotBeArchived_ShouldSkipItAndArchiveTheRest() {
+        when(jobLockService.tryLock(eq(ActivityRetentionService.LOCK_NAME), any())).thenReturn(true);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(activityRepository.findByCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(activity(1, 7L), activity(2, 8L)));
+        when(activityRepository.findByCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(any(), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(activity(3, 8L)));
+        doAnswer(inv -> {
+            List<Activity> activities = inv.getArgument(0);
+            if (activities.stream().anyMatch(a -> a.getTaskId() == 7L)) {
+                throw new IllegalStateException("Activity 1 is too large to archive");
+            }
+            return null;
+        }).when(activityArchive).append(anyList());
+
+        assertEquals(2, retentionService.archiveExpired());
+
+        verify(activityRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(activityRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(activityRepository, times(2)).deleteAllByIdInBatch(anyIterable());
+    }
+
+    @Test
+    void archiveExpired_WhenAnotherInstanceHoldsLease_ShouldDoNothing() {
+        when(jobLockService.tryLock(eq(ActivityRetentionService.LOCK_NAME), any())).thenReturn(false);
+
+        assertEquals(0, retentionService.archiveExpired());
+
+        verifyNoInteractions(activityRepository, activityArchive);
+        verify(jobLockService, never()).unlock(any());
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.SavedFilterDelta;
+import com.taskmanagement.dto.TaskFilter;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.outbox.OutboxFixtures;
+import com.taskmanagement.search.SavedFilterIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavedFilterServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private SavedFilterService savedFilterService;
+
+    private SavedFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(savedFilterService, "objectMapper", OutboxFixtures.OBJECT_MAPPER);
+        index = (SavedFilterIndex) ReflectionTestUtils.getField(savedFilterService, "index");
+        TaskFilter inProgress = new TaskFilter();
+        inProgress.setStatuses(Set.of(TaskStatus.IN_PROGRESS));
+        index.register(1L, inProgress, List.of(10L));
+    }
+
+    private Task task(TaskStatus status) {
+        Task task = new Task("Fix login", null, status, Priority.MEDIUM, 7L, 1L);
+        task.setId(10L);
+        return task;
+    }
+
+    @Test
+    void deliver_WhenTaskLeavesView_ShouldRouteByPreviousStatusAndBroadcastRemoval() throws Exception {
+        OutboxEvent update = OutboxFixtures.outboxEvent(
+                new TaskChangedEvent(task(TaskStatus.IN_PROGRESS), task(TaskStatus.DONE), 1L));
+
+        savedFilterService.deliver(List.of(update));
+        savedFilterService.deliver(List.of(update));
+
+        assertTrue(index.members(1L).isEmpty());
+        ArgumentCaptor<SavedFilterDelta> delta = ArgumentCaptor.forClass(SavedFilterDelta.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/saved-filters/1"), delta.capture());
+        assertEquals(List.of(10L), delta.getValue().getRemoved());
+    }
+
+    @Test
+    void deliver_WhenTaskDeleted_ShouldDropItFromViews() throws Exception {
+        savedFilterService.deliver(List.of(OutboxFixtures.outboxEvent(
+                new TaskChangedEvent(task(TaskStatus.IN_PROGRESS), null, 1L))));
+
+        assertTrue(index.members(1L).isEmpty());
+    }
+}
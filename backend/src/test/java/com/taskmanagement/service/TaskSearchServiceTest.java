@@ -0,0 +1,73 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskSearchResponse;
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.CommentChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.outbox.OutboxFixtures;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskSearchService taskSearchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskSearchService, "objectMapper", OutboxFixtures.OBJECT_MAPPER);
+        when(taskRepository.findAllById(anyList())).thenReturn(List.of());
+    }
+
+    private Task task() {
+        Task task = new Task("Quarterly report", "Collect numbers", TaskStatus.TODO, Priority.HIGH, null, 1L);
+        task.setId(1L);
+        return task;
+    }
+
+    @Test
+    void search_WithPageBeyondIntRange_ShouldReturnEmptyPage() throws Exception {
+        taskSearchService.deliver(List.of(OutboxFixtures.outboxEvent(new TaskChangedEvent(null, task(), 1L))));
+
+        TaskSearchResponse response = taskSearchService.search("report", Integer.MAX_VALUE / 2, 100);
+
+        assertEquals(1, response.getTotal());
+        assertTrue(response.getResults().isEmpty());
+    }
+
+    @Test
+    void deliver_WhenBatchIsRedelivered_ShouldConvergeOnLatestText() throws Exception {
+        Comment comment = new Comment("Numbers from finance", 1L, 1L);
+        comment.setId(3L);
+        List<OutboxEvent> batch = List.of(
+                OutboxFixtures.outboxEvent(new TaskChangedEvent(null, task(), 1L)),
+                OutboxFixtures.outboxEvent(new CommentChangedEvent(null, comment, 1L)),
+                OutboxFixtures.outboxEvent(new CommentChangedEvent(comment, null, 1L)));
+
+        taskSearchService.deliver(batch);
+        taskSearchService.deliver(batch);
+
+        assertEquals(1, taskSearchService.search("report", 0, 10).getTotal());
+        assertEquals(0, taskSearchService.search("finance", 0, 10).getTotal());
+    }
+}
@@ -6,6 +6,7 @@ import com.taskmanagement.entity.Priority;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.exception.EntityNotFoundException;
+import com.taskmanagement.exception.PreconditionFailedException;
 import com.taskmanagement.exception.UnauthorizedException;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -31,6 +33,9 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -125,6 +130,32 @@ class TaskServiceTest {
 
         taskService.deleteTask(21L, 5L);
 
-        verify(taskRepository).deleteById(21L);
+        verify(taskRepository).delete(existing);
+    }
+
+    @Test
+    void updateTask_WhenVersionDiffers_ShouldFailPrecondition() {
+        Task existing = new Task();
+        existing.setId(12L);
+        existing.setCreatorId(1L);
+        existing.setVersion(3L);
+        when(taskRepository.findById(12L)).thenReturn(Optional.of(existing));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTask(12L, updateRequest, 1L, 2L));
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void deleteTask_WhenVersionDiffers_ShouldFailPrecondition() {
+        Task existing = new Task();
+        existing.setId(22L);
+        existing.setCreatorId(5L);
+        existing.setVersion(1L);
+        when(taskRepository.findById(22L)).thenReturn(Optional.of(existing));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.deleteTask(22L, 5L, 0L));
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 }
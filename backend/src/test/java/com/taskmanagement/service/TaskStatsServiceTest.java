@@ -0,0 +1,102 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskPlacement;
+import com.taskmanagement.dto.TaskStatsBucket;
+import com.taskmanagement.dto.TaskStatsResponse;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.outbox.OutboxFixtures;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskStatsService taskStatsService;
+
+    private Task task(TaskStatus status, Priority priority, Long assigneeId) {
+        Task t = new Task("t", "d", status, priority, assigneeId, 1L);
+        t.setId(1L);
+        return t;
+    }
+
+    @Test
+    void getStats_WhenCacheDisabled_ShouldRollUpGroupedQuery() {
+        when(taskRepository.countGroupedByStatusPriorityAndAssignee()).thenReturn(List.of(
+                new TaskStatsBucket(TaskStatus.TODO, Priority.HIGH, 2L, 3),
+                new TaskStatsBucket(TaskStatus.DONE, Priority.HIGH, null, 1)));
+
+        TaskStatsResponse stats = taskStatsService.getStats();
+
+        assertEquals(4, stats.getTotal());
+        assertEquals(3L, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(0L, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(4L, stats.getByPriority().get(Priority.HIGH));
+        assertEquals(1L, stats.getByAssignee().get(TaskStatsResponse.UNASSIGNED));
+        assertEquals(2, stats.getBuckets().size());
+    }
+
+    @Test
+    void getStats_WhenCacheEnabled_ShouldApplyRelayedChangesWithoutQuerying() throws Exception {
+        ReflectionTestUtils.setField(taskStatsService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(taskStatsService, "objectMapper", OutboxFixtures.OBJECT_MAPPER);
+        when(taskRepository.streamPlacements()).thenReturn(Stream.of(
+                new TaskPlacement(1L, TaskStatus.TODO, Priority.HIGH, 2L)));
+        taskStatsService.load();
+
+        Task before = task(TaskStatus.TODO, Priority.HIGH, 2L);
+        Task after = task(TaskStatus.IN_PROGRESS, Priority.HIGH, 2L);
+        Task created = task(TaskStatus.TODO, Priority.LOW, null);
+        created.setId(2L);
+        List<OutboxEvent> batch = List.of(
+                OutboxFixtures.outboxEvent(new TaskChangedEvent(before, after, 1L)),
+                OutboxFixtures.outboxEvent(new TaskChangedEvent(null, created, 1L)));
+        taskStatsService.deliver(batch);
+        taskStatsService.deliver(batch);
+
+        TaskStatsResponse stats = taskStatsService.getStats();
+
+        assertEquals(2, stats.getTotal());
+        assertEquals(1L, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(1L, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, stats.getByPriority().get(Priority.LOW));
+        assertEquals(2, stats.getBuckets().size());
+        verify(taskRepository, never()).countGroupedByStatusPriorityAndAssignee();
+    }
+
+    @Test
+    void deliver_WhenChangeAlreadyLoaded_ShouldNotCountItTwice() throws Exception {
+        ReflectionTestUtils.setField(taskStatsService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(taskStatsService, "objectMapper", OutboxFixtures.OBJECT_MAPPER);
+        Task created = task(TaskStatus.TODO, Priority.HIGH, 2L);
+        OutboxEvent create = OutboxFixtures.outboxEvent(new TaskChangedEvent(null, created, 1L));
+        OutboxEvent delete = OutboxFixtures.outboxEvent(new TaskChangedEvent(created, null, 1L));
+        when(taskRepository.streamPlacements()).thenReturn(Stream.of(
+                new TaskPlacement(1L, TaskStatus.TODO, Priority.HIGH, 2L)));
+        taskStatsService.load();
+
+        taskStatsService.deliver(List.of(create));
+        assertEquals(1, taskStatsService.getStats().getTotal());
+
+        taskStatsService.deliver(List.of(delete, delete));
+        assertEquals(0, taskStatsService.getStats().getTotal());
+    }
+}
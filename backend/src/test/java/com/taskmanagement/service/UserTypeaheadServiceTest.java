@@ -0,0 +1,44 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.UserSuggestion;
+import com.taskmanagement.entity.OutboxEvent;
+import com.taskmanagement.event.UserCreatedEvent;
+import com.taskmanagement.outbox.OutboxFixtures;
+import com.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserTypeaheadServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserTypeaheadService userTypeaheadService;
+
+    @Test
+    void deliver_ShouldSuggestUsersCreatedOnAnyInstanceOnce() throws Exception {
+        ReflectionTestUtils.setField(userTypeaheadService, "objectMapper", OutboxFixtures.OBJECT_MAPPER);
+        when(userRepository.findAllSuggestions()).thenReturn(List.of(new UserSuggestion(1L, "alice")));
+        userTypeaheadService.load();
+
+        // the load already saw alice; albert registered while it ran
+        List<OutboxEvent> batch = List.of(
+                OutboxFixtures.outboxEvent(new UserCreatedEvent(1L, "alice")),
+                OutboxFixtures.outboxEvent(new UserCreatedEvent(2L, "albert")));
+        userTypeaheadService.deliver(batch);
+
+        List<UserSuggestion> suggestions = userTypeaheadService.suggest("al", 10);
+        assertEquals(List.of("albert", "alice"), suggestions.stream().map(UserSuggestion::getUsername).toList());
+    }
+}
@@ -0,0 +1,153 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.AssigneeWorkload;
+import com.taskmanagement.dto.TaskPlacement;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.outbox.OutboxFixtures;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private WorkloadService workloadService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(workloadService, "objectMapper", OutboxFixtures.OBJECT_MAPPER);
+        when(taskRepository.streamPlacements()).thenReturn(Stream.of(
+                new TaskPlacement(1L, TaskStatus.TODO, Priority.HIGH, 2L),
+                new TaskPlacement(2L, TaskStatus.TODO, Priority.HIGH, 2L),
+                new TaskPlacement(3L, TaskStatus.TODO, Priority.HIGH, 2L),
+                new TaskPlacement(4L, TaskStatus.TODO, Priority.LOW, 2L),
+                new TaskPlacement(5L, TaskStatus.DONE, Priority.HIGH, 3L),
+                new TaskPlacement(6L, TaskStatus.DONE, Priority.HIGH, 3L),
+                new TaskPlacement(7L, TaskStatus.TODO, Priority.HIGH, null)));
+        workloadService.load();
+    }
+
+    private Task task(long id, TaskStatus status, Long assigneeId) {
+        Task t = new Task("t", "d", status, Priority.MEDIUM, assigneeId, 1L);
+        t.setId(id);
+        return t;
+    }
+
+    private void deliver(Task previous, Task current) throws Exception {
+        workloadService.deliver(List.of(OutboxFixtures.outboxEvent(new TaskChangedEvent(previous, current, 1L))));
+    }
+
+    private long count(Long assigneeId, TaskStatus status) {
+        return workloadService.getWorkload(assigneeId).getByStatus().get(status);
+    }
+
+    @Test
+    void load_ShouldSumTasksPerAssigneeAndIgnoreUnassigned() {
+        assertEquals(4L, count(2L, TaskStatus.TODO));
+        assertEquals(2L, count(3L, TaskStatus.DONE));
+        assertEquals(4L, workloadService.getWorkload(2L).getOpen());
+
+        List<AssigneeWorkload> all = workloadService.getAllWorkloads();
+        assertEquals(List.of(2L, 3L), all.stream().map(AssigneeWorkload::getAssigneeId).toList());
+    }
+
+    @Test
+    void load_ShouldReplacePreviousCounters() throws Exception {
+        deliver(null, task(9L, TaskStatus.TODO, 9L));
+        when(taskRepository.streamPlacements()).thenReturn(Stream.of(
+                new TaskPlacement(1L, TaskStatus.IN_PROGRESS, Priority.HIGH, 2L)));
+
+        workloadService.load();
+
+        assertEquals(0L, count(2L, TaskStatus.TODO));
+        assertEquals(1L, count(2L, TaskStatus.IN_PROGRESS));
+        assertEquals(0L, count(9L, TaskStatus.TODO));
+    }
+
+    @Test
+    void deliver_WhenAssigned_ShouldIncrementAndBroadcast() throws Exception {
+        deliver(null, task(8L, TaskStatus.TODO, 3L));
+
+        assertEquals(1L, count(3L, TaskStatus.TODO));
+        verify(messagingTemplate).convertAndSend(eq("/topic/workload"), any(AssigneeWorkload.class));
+    }
+
+    @Test
+    void deliver_WhenReassigned_ShouldMoveCountBetweenAssignees() throws Exception {
+        deliver(task(1L, TaskStatus.TODO, 2L), task(1L, TaskStatus.TODO, 3L));
+
+        assertEquals(3L, count(2L, TaskStatus.TODO));
+        assertEquals(1L, count(3L, TaskStatus.TODO));
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/workload"), any(AssigneeWorkload.class));
+    }
+
+    @Test
+    void deliver_WhenStatusChanges_ShouldMoveCountBetweenStatuses() throws Exception {
+        deliver(task(1L, TaskStatus.TODO, 2L), task(1L, TaskStatus.DONE, 2L));
+
+        assertEquals(3L, count(2L, TaskStatus.TODO));
+        assertEquals(1L, count(2L, TaskStatus.DONE));
+        assertEquals(3L, workloadService.getWorkload(2L).getOpen());
+    }
+
+    @Test
+    void deliver_WhenDeleted_ShouldDecrement() throws Exception {
+        deliver(task(5L, TaskStatus.DONE, 3L), null);
+
+        assertEquals(1L, count(3L, TaskStatus.DONE));
+    }
+
+    @Test
+    void deliver_WhenAssigneeAndStatusUnchanged_ShouldNotBroadcast() throws Exception {
+        Task before = task(1L, TaskStatus.TODO, 2L);
+        Task after = task(1L, TaskStatus.TODO, 2L);
+        after.setTitle("renamed");
+
+        deliver(before, after);
+
+        assertEquals(4L, count(2L, TaskStatus.TODO));
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void deliver_WhenUnassigned_ShouldOnlyDecrementPreviousAssignee() throws Exception {
+        deliver(task(1L, TaskStatus.TODO, 2L), task(1L, TaskStatus.TODO, null));
+
+        assertEquals(3L, count(2L, TaskStatus.TODO));
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/workload"), any(AssigneeWorkload.class));
+    }
+
+    @Test
+    void deliver_WhenChangeAlreadyLoadedOrRedelivered_ShouldNotCountItAgain() throws Exception {
+        deliver(null, task(1L, TaskStatus.TODO, 2L));
+        deliver(task(5L, TaskStatus.DONE, 3L), null);
+        deliver(task(5L, TaskStatus.DONE, 3L), null);
+
+        assertEquals(4L, count(2L, TaskStatus.TODO));
+        assertEquals(1L, count(3L, TaskStatus.DONE));
+    }
+}
@@ -1,5 +1,8 @@
 package com.taskmanagement.util;
 
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.User;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -56,6 +59,23 @@ class JwtUtilsTest {
         assertTrue(token.startsWith("eyJ"));
     }
 
+    @Test
+    void generateAccessToken_ShouldCarryUserIdRoleAndTokenId() {
+        // Given
+        User user = new User("testuser", "test@example.com", "password", Role.ADMIN);
+        user.setId(42L);
+
+        // When
+        Claims claims = jwtUtils.parseValidClaims(jwtUtils.generateAccessToken(user));
+
+        // Then
+        assertNotNull(claims);
+        assertEquals("testuser", claims.getSubject());
+        assertEquals(42L, claims.get(JwtUtils.USER_ID_CLAIM, Number.class).longValue());
+        assertEquals("ADMIN", claims.get(JwtUtils.ROLE_CLAIM, String.class));
+        assertNotNull(claims.getId());
+    }
+
     @Test
     void getUsernameFromJwtToken_WithValidToken_ShouldReturnUsername() {
         // Given
@@ -0,0 +1,164 @@
+package com.taskmanagement.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WebSocketSessionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebSocketSessionRegistry registry = new WebSocketSessionRegistry();
+    private final WebSocketHandler delegate = mock(WebSocketHandler.class);
+    private WebSocketHandler handler;
+    private WebSocketSession session;
+    private WebSocketSession tracked;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(registry, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(registry, "maxQueuedMessages", 2);
+        registry.init();
+        handler = registry.decorate(delegate);
+        session = mock(WebSocketSession.class);
+        tracked = open(session, "s1");
+    }
+
+    /**
+     * @return the session the decorated handler passes on, through which frames reach the socket
+     */
+    private WebSocketSession open(WebSocketSession session, String id) throws Exception {
+        when(session.getId()).thenReturn(id);
+        handler.afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> passedOn = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate, atLeastOnce()).afterConnectionEstablished(passedOn.capture());
+        return passedOn.getValue();
+    }
+
+    private static Message<byte[]> outbound(String sessionId, int size) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[size], accessor.getMessageHeaders());
+    }
+
+    /** Hand a message to its session the way an outbound channel thread does. */
+    private Message<?> deliver(Message<?> message) {
+        Message<?> sent = registry.preSend(message, null);
+        return sent != null ? registry.beforeHandle(sent, null, null) : null;
+    }
+
+    private static TextMessage frame(String command) {
+        return new TextMessage(command + "\ndestination:/topic/tasks\n\n{}\u0000");
+    }
+
+    private double counter(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).counter().count();
+    }
+
+    @Test
+    void beforeHandle_ShouldTrackMessagesUntilWrittenToSocket() throws Exception {
+        Message<byte[]> first = outbound("s1", 10);
+        Message<byte[]> second = outbound("s1", 30);
+
+        assertSame(first, deliver(first));
+        assertSame(second, deliver(second));
+        assertEquals(2, registry.getQueuedMessages("s1"));
+        assertEquals(40, registry.getQueuedBytes("s1"));
+        assertEquals(2.0, meterRegistry.get("websocket.outbound.queued").gauge().value());
+
+        tracked.sendMessage(frame("MESSAGE"));
+        tracked.sendMessage(new TextMessage("\n"));
+
+        assertEquals(1, registry.getQueuedMessages("s1"));
+        assertEquals(30, registry.getQueuedBytes("s1"));
+        verify(session).sendMessage(frame("MESSAGE"));
+    }
+
+    @Test
+    void preSend_ShouldNotCountMessagesWaitingForAnExecutorThread() {
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(registry.preSend(outbound("s1", 1), null));
+        }
+
+        assertEquals(0, registry.getQueuedMessages("s1"));
+    }
+
+    @Test
+    void beforeHandle_WithSlowAndFastSession_ShouldEvictOnlyTheSlowOne() throws Exception {
+        WebSocketSession fastSession = mock(WebSocketSession.class);
+        WebSocketSession fast = open(fastSession, "fast");
+
+        for (int i = 0; i < 5; i++) {
+            // a broadcast: every subscriber gets each message, the fast client keeps up, s1 does not
+            assertNotNull(deliver(outbound("fast", 1)));
+            fast.sendMessage(frame("MESSAGE"));
+            deliver(outbound("s1", 1));
+        }
+
+        verify(session, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(fastSession, never()).close(any());
+        assertEquals(0, registry.getQueuedMessages("fast"));
+        assertEquals(3.0, counter("websocket.outbound.dropped"));
+        assertNull(registry.preSend(outbound("s1", 1), null));
+        assertNotNull(registry.preSend(outbound("fast", 1), null));
+    }
+
+    @Test
+    void beforeHandle_BeyondQueueLimit_ShouldDropAndEvictSession() throws Exception {
+        deliver(outbound("s1", 1));
+        deliver(outbound("s1", 1));
+
+        assertNull(deliver(outbound("s1", 1)));
+        assertNull(deliver(outbound("s1", 1)));
+
+        verify(session, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(2.0, counter("websocket.outbound.dropped"));
+        assertEquals(1.0, counter("websocket.sessions.evicted", "reason", "queue"));
+
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        assertEquals(0.0, counter("websocket.sessions.evicted", "reason", "send-limit"));
+        assertEquals(0, registry.getSessionCount());
+    }
+
+    @Test
+    void isMessageFrame_ShouldRecognizeTextAndBinaryMessageFrames() {
+        assertTrue(WebSocketSessionRegistry.isMessageFrame(frame("MESSAGE")));
+        assertFalse(WebSocketSessionRegistry.isMessageFrame(frame("RECEIPT")));
+        assertTrue(WebSocketSessionRegistry.isMessageFrame(
+                new BinaryMessage(frame("MESSAGE").getPayload().getBytes(StandardCharsets.UTF_8))));
+        assertFalse(WebSocketSessionRegistry.isMessageFrame(new BinaryMessage(new byte[] {'\n'})));
+    }
+
+    @Test
+    void afterConnectionClosed_AfterSendLimit_ShouldCountEviction() throws Exception {
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        assertEquals(1.0, counter("websocket.sessions.evicted", "reason", "send-limit"));
+    }
+
+    @Test
+    void preSend_ForUnknownSession_ShouldPassThrough() {
+        Message<byte[]> message = outbound("other", 5);
+
+        assertSame(message, deliver(message));
+        assertEquals(0, registry.getQueuedMessages("other"));
+        assertEquals(1, registry.getSessionCount());
+    }
+}
@@ -17,7 +17,7 @@ const CommentForm: React.FC<Props> = ({ taskId, onCreated }) => {
     setLoading(true);
     try {
       await commentService.create({ taskId, content: text.trim() });
-  try { await activityService.create({ taskId, type: 'COMMENT', actorId: undefined, actorName: undefined, detail: text.trim(), createdAt: new Date().toISOString() }); } catch (e) {}
+  activityService.refreshSoon();
       setText('');
       onCreated && onCreated();
     } catch (e) {
@@ -17,6 +17,9 @@ export type Task = {
   creatorId: number;
   createdAt: string;
   updatedAt: string;
+  version?: number;
+  commentCount?: number;
+  lastCommentAt?: string | null;
 };
 
 type User = {
@@ -182,6 +185,7 @@ const TaskCard: React.FC<Props> = ({ task, users, onEdit, onDelete, onStatusChan
               }}
             >
               {showComments ? 'Hide comments' : 'Show comments'}
+              {task.commentCount ? ` (${task.commentCount})` : ''}
             </MenuItem>
             {statusOptions.map((s) => (
               <MenuItem key={s} onClick={() => handleStatus(s as TaskStatus)}>
@@ -10,6 +10,10 @@ import activityService from '../../services/activityService';
 
 type User = { id: number; username: string };
 
+// Conditional write: the server rejects it with 412 if the task changed since we last saw it
+const ifMatch = (task?: TaskType): Record<string, string> | undefined =>
+  task && task.version !== undefined ? { 'If-Match': `"${task.version}"` } : undefined;
+
 const TaskDashboard: React.FC = () => {
   useAuth();
   const [tasks, setTasks] = React.useState<TaskType[]>([]);
@@ -91,14 +95,12 @@ const TaskDashboard: React.FC = () => {
         await apiClient.put<TaskType>(`/api/tasks/${payload.id}`, payload);
         // refresh tasks from server to ensure consistent view
         await fetchTasks(filterStatus, filterAssignee, filterAssignee === 'UNASSIGNED');
-  // create activity entry for update
-  try { await activityService.create({ taskId: payload.id, type: 'UPDATED', actorId: undefined, actorName: undefined, detail: 'Task updated', createdAt: new Date().toISOString() }); } catch (e) {}
+  activityService.refreshSoon();
       } else {
         const created = await apiClient.post<TaskType>('/api/tasks', payload);
         // fetch latest tasks immediately so UI reflects server state (and respects filters)
         await fetchTasks(filterStatus, filterAssignee, filterAssignee === 'UNASSIGNED');
-        // create activity entry for creation using server-provided id
-        try { await activityService.create({ taskId: Number(created.id), type: 'CREATED', actorId: undefined, actorName: undefined, detail: 'Task created', createdAt: new Date().toISOString() }); } catch (e) {}
+        activityService.refreshSoon();
       }
       setOpenForm(false);
     } catch (err: any) {
@@ -114,7 +116,7 @@ const TaskDashboard: React.FC = () => {
 
   const handleDelete = async (taskId: number) => {
     try {
-      await apiClient.delete(`/api/tasks/${taskId}`);
+      await apiClient.delete(`/api/tasks/${taskId}`, ifMatch(tasks.find((x) => x.id === taskId)));
       setTasks((t) => t.filter((x) => x.id !== taskId));
     } catch (err: any) {
       setError(err?.response?.data?.message || err?.message || 'Failed to delete task');
@@ -124,10 +126,9 @@ const TaskDashboard: React.FC = () => {
   const handleStatusChange = async (task: TaskType, status: any) => {
     try {
       const payload = { ...task, status };
-      const updated = await apiClient.put<TaskType>(`/api/tasks/${task.id}`, payload);
+      const updated = await apiClient.put<TaskType>(`/api/tasks/${task.id}`, payload, ifMatch(task));
       setTasks((t) => t.map((x) => (x.id === updated.id ? updated : x)));
-  // record activity for status change
-  try { await activityService.create({ taskId: Number(task.id), type: 'STATUS_CHANGED', actorId: undefined, actorName: undefined, detail: `Status: ${task.status} → ${status}`, createdAt: new Date().toISOString() }); } catch (e) {}
+  activityService.refreshSoon();
     } catch (err: any) {
       setError(err?.response?.data?.message || err?.message || 'Failed to update status');
     }
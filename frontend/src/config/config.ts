@@ -8,6 +8,7 @@ export interface AppConfig {
   };
   auth: {
     tokenKey: string;
+    refreshTokenKey: string;
     tokenExpiryHours: number;
   };
   app: {
@@ -65,6 +66,7 @@ export const config: AppConfig = {
   },
   auth: {
     tokenKey: getEnvVar('REACT_APP_JWT_TOKEN_KEY', 'taskmanagement_token'),
+    refreshTokenKey: getEnvVar('REACT_APP_JWT_REFRESH_TOKEN_KEY', 'taskmanagement_refresh_token'),
     tokenExpiryHours: getEnvNumber('REACT_APP_TOKEN_EXPIRY_HOURS', 24),
   },
   app: {
@@ -50,7 +50,7 @@ const TaskOverview: React.FC = () => {
       const payload = { ...task, status };
   const updated = await apiClient.put<any>(`/api/tasks/${task.id}`, payload);
       setTask(updated);
-      try { await activityService.create({ taskId: Number(task.id), type: 'STATUS_CHANGED', actorId: undefined, actorName: undefined, detail: `Status: ${task.status} → ${status}`, createdAt: new Date().toISOString() }); } catch (e) {}
+      activityService.refreshSoon();
       window.dispatchEvent(new Event('tasks:refresh'));
     } catch (err: any) {
       setError(err?.response?.data?.message || err?.message || 'Failed to update status');
@@ -73,11 +73,11 @@ const TaskOverview: React.FC = () => {
       if (payload.id) {
   const updated = await apiClient.put<any>(`/api/tasks/${payload.id}`, payload);
         setTask(updated);
-        try { await activityService.create({ taskId: Number(payload.id), type: 'UPDATED', actorId: undefined, actorName: undefined, detail: 'Task updated', createdAt: new Date().toISOString() }); } catch (e) {}
+        activityService.refreshSoon();
       } else {
   const created = await apiClient.post<any>('/api/tasks', payload);
   setTask(created);
-        try { await activityService.create({ taskId: Number(created.id), type: 'CREATED', actorId: undefined, actorName: undefined, detail: 'Task created', createdAt: new Date().toISOString() }); } catch (e) {}
+        activityService.refreshSoon();
       }
       setOpenEdit(false);
       window.dispatchEvent(new Event('tasks:refresh'));
@@ -57,6 +57,12 @@ const activityService = {
     }
   },
 
+  // activities are recorded by the server after each task or comment change and written
+  // asynchronously, so give the writer a moment before asking listeners to reload
+  refreshSoon(delayMs = 500): void {
+    window.setTimeout(() => window.dispatchEvent(new Event('activities:refresh')), delayMs);
+  },
+
   // utility to seed a creation event when we only have task data
   buildFromTask(task: any, creatorName?: string | null): Activity[] {
     if (!task) return [];
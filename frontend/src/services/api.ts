@@ -10,17 +10,6 @@ const api: AxiosInstance = axios.create({
   },
 });
 
-let isRefreshing = false;
-let failedQueue: Array<{ resolve: (token: string) => void; reject: (err: any) => void }> = [];
-
-const processQueue = (error: any, token: string | null = null) => {
-  failedQueue.forEach((prom) => {
-    if (error) prom.reject(error);
-    else prom.resolve(token as string);
-  });
-  failedQueue = [];
-};
-
 api.interceptors.request.use(
   (configReq) => {
     // Ensure requests to /api/* use absolute backend baseURL when needed
@@ -59,37 +48,15 @@ api.interceptors.response.use(
 
   // debug logging removed
 
-    if (error.response?.status === 401 && !originalRequest._retry) {
-      // Attempt refresh once
+    // the refresh call itself is not retried: it would wait on its own pending refresh
+    const isRefreshCall = String(originalRequest?.url || '').endsWith('/api/auth/refresh');
+    if (error.response?.status === 401 && originalRequest && !originalRequest._retry && !isRefreshCall) {
+      // Attempt refresh once; concurrent 401s share the refresh in flight
       originalRequest._retry = true;
-
-      if (isRefreshing) {
-        return new Promise(function (resolve, reject) {
-          failedQueue.push({
-            resolve: (token: string) => {
-              originalRequest.headers['Authorization'] = 'Bearer ' + token;
-              resolve(api(originalRequest));
-            },
-            reject,
-          });
-        });
-      }
-
-      isRefreshing = true;
-      try {
-        const newToken = await authService.refreshToken();
-        if (newToken) {
-          originalRequest.headers['Authorization'] = 'Bearer ' + newToken;
-          processQueue(null, newToken);
-          return api(originalRequest);
-        }
-      } catch (err) {
-        processQueue(err, null);
-        authService.logout();
-        window.location.href = '/login';
-        return Promise.reject(err);
-      } finally {
-        isRefreshing = false;
+      const newToken = await authService.refreshToken();
+      if (newToken) {
+        originalRequest.headers['Authorization'] = 'Bearer ' + newToken;
+        return api(originalRequest);
       }
     }
 
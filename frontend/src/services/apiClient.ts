@@ -1,5 +1,6 @@
 import axios, { AxiosInstance, InternalAxiosRequestConfig, AxiosResponse } from 'axios';
 import config from '../config/config';
+import authService from './authService';
 
 /**
  * API client configuration and setup
@@ -70,10 +71,22 @@ class ApiClient {
   // debug logging removed
         return response;
       },
-      (error) => {
-        // Handle 401 Unauthorized - token expired
+      async (error) => {
+        // Handle 401 Unauthorized - access token expired: refresh once and retry.
+        // authService shares one refresh between concurrent 401s here and in api.ts.
+        const originalRequest = error.config;
+        if (error.response?.status === 401 && originalRequest && !originalRequest._retry) {
+          originalRequest._retry = true;
+          const newToken = await authService.refreshToken();
+          if (newToken) {
+            originalRequest.headers = originalRequest.headers || {};
+            originalRequest.headers.Authorization = `Bearer ${newToken}`;
+            return this.client(originalRequest);
+          }
+        }
         if (error.response?.status === 401) {
           localStorage.removeItem(config.auth.tokenKey);
+          localStorage.removeItem(config.auth.refreshTokenKey);
           window.location.href = '/login';
         }
 
@@ -101,16 +114,16 @@ class ApiClient {
   /**
    * PUT request
    */
-  async put<T>(url: string, data?: any): Promise<T> {
-    const response = await this.client.put<T>(url, data);
+  async put<T>(url: string, data?: any, headers?: Record<string, string>): Promise<T> {
+    const response = await this.client.put<T>(url, data, { headers });
     return response.data;
   }
 
   /**
    * DELETE request
    */
-  async delete<T>(url: string): Promise<T> {
-    const response = await this.client.delete<T>(url);
+  async delete<T>(url: string, headers?: Record<string, string>): Promise<T> {
+    const response = await this.client.delete<T>(url, { headers });
     return response.data;
   }
 
@@ -35,6 +35,7 @@ export interface RegisterRequest {
  */
 export interface AuthResponse {
   token: string;
+  refreshToken?: string;
   type: string;
   user: User;
 }
@@ -43,6 +44,11 @@ export interface AuthResponse {
  * Authentication service for user login, registration, and session management
  */
 class AuthService {
+  /**
+   * Refresh in progress, shared by every caller until it settles.
+   */
+  private pendingRefresh: Promise<string | null> | null = null;
+
   /**
    * Normalize token string by removing any leading 'Bearer ' prefix.
    * Ensures we store and return the raw JWT only.
@@ -51,6 +57,16 @@ class AuthService {
     if (!token) return null;
     return token.startsWith('Bearer ') ? token.slice(7) : token;
   }
+  /**
+   * Store the access token (raw JWT) and, when present, the refresh token.
+   */
+  private storeTokens(response: AuthResponse): string | null {
+    const raw = this.normalizeToken(response.token);
+    if (raw) localStorage.setItem(config.auth.tokenKey, raw);
+    if (response.refreshToken) localStorage.setItem(config.auth.refreshTokenKey, response.refreshToken);
+    return raw;
+  }
+
   /**
    * Login user with username and password
    */
@@ -59,8 +75,7 @@ class AuthService {
       const response = await api.post<AuthResponse>('/api/auth/login', credentials).then(r => r.data);
 
      // Normalize and store token in localStorage (store raw JWT without 'Bearer ')
-      const raw = this.normalizeToken(response.token);
-      if (raw) localStorage.setItem(config.auth.tokenKey, raw);
+      this.storeTokens(response);
 
       return response;
 
@@ -78,8 +93,7 @@ class AuthService {
       const response = await api.post<AuthResponse>('/api/auth/register', userData).then(r => r.data);
 
       // Normalize and store token in localStorage (store raw JWT without 'Bearer ')
-      const raw = this.normalizeToken(response.token);
-      if (raw) localStorage.setItem(config.auth.tokenKey, raw);
+      this.storeTokens(response);
 
       // debug logging removed
 
@@ -91,10 +105,18 @@ class AuthService {
   }
 
   /**
-   * Logout user by removing token
+   * Logout user by revoking the token on the backend and removing it locally
    */
   logout(): void {
-  localStorage.removeItem(config.auth.tokenKey);
+    const token = this.getToken();
+    const refreshToken = localStorage.getItem(config.auth.refreshTokenKey);
+    if (token || refreshToken) {
+      // fire-and-forget: the local session ends regardless of the outcome
+      const headers = token ? { Authorization: `Bearer ${token}` } : undefined;
+      api.post('/api/auth/logout', refreshToken ? { refreshToken } : null, { headers }).catch(() => {});
+    }
+    localStorage.removeItem(config.auth.tokenKey);
+    localStorage.removeItem(config.auth.refreshTokenKey);
 
     // debug logging removed
   }
@@ -147,14 +169,26 @@ class AuthService {
   }
 
   /**
-   * Refresh token (if backend supports it)
+   * Exchange the stored refresh token for a new access/refresh token pair.
+   * The backend rotates refresh tokens and revokes the whole family when a used one is
+   * presented again, so concurrent callers (e.g. several requests failing with 401 at once,
+   * from either HTTP client) all wait for the same single refresh request.
    */
-  async refreshToken(): Promise<string | null> {
+  refreshToken(): Promise<string | null> {
+    if (!this.pendingRefresh) {
+      this.pendingRefresh = this.exchangeRefreshToken().finally(() => {
+        this.pendingRefresh = null;
+      });
+    }
+    return this.pendingRefresh;
+  }
+
+  private async exchangeRefreshToken(): Promise<string | null> {
     try {
-      const response = await api.post<{ token: string }>('/api/auth/refresh').then(r => r.data);
-      const raw = this.normalizeToken(response.token);
-      if (raw) localStorage.setItem(config.auth.tokenKey, raw);
-      return raw;
+      const refreshToken = localStorage.getItem(config.auth.refreshTokenKey);
+      if (!refreshToken) throw new Error('No refresh token');
+      const response = await api.post<AuthResponse>('/api/auth/refresh', { refreshToken }).then(r => r.data);
+      return this.storeTokens(response);
     } catch (error) {
       // debug logging removed
       this.logout();
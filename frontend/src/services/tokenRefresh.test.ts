@@ -0,0 +1,52 @@
+import { AxiosError, AxiosResponse, InternalAxiosRequestConfig } from 'axios';
+import config from '../config/config';
+import api from './api';
+import apiClient from './apiClient';
+
+/**
+ * Fake backend: the refresh endpoint rotates the pair once, every other endpoint accepts only the
+ * rotated access token. A second refresh with the same token would be a replay.
+ */
+const refreshCalls: string[] = [];
+
+const backend = async (request: InternalAxiosRequestConfig): Promise<AxiosResponse> => {
+  const respond = (status: number, data: any): AxiosResponse =>
+    ({ status, statusText: String(status), data, headers: {}, config: request } as AxiosResponse);
+
+  if (String(request.url).endsWith('/api/auth/refresh')) {
+    refreshCalls.push(JSON.parse(request.data).refreshToken);
+    await new Promise((resolve) => setTimeout(resolve, 10));
+    return respond(200, { token: 'new-access', refreshToken: 'new-refresh', type: 'Bearer' });
+  }
+  if ((request.headers as any).Authorization === 'Bearer new-access') {
+    return respond(200, []);
+  }
+  const response = respond(401, { error: 'Unauthorized' });
+  throw new AxiosError('Unauthorized', AxiosError.ERR_BAD_REQUEST, request, null, response);
+};
+
+describe('token refresh', () => {
+  beforeEach(() => {
+    refreshCalls.length = 0;
+    api.defaults.adapter = backend;
+    (apiClient as any).client.defaults.adapter = backend;
+    localStorage.setItem(config.auth.tokenKey, 'expired-access');
+    localStorage.setItem(config.auth.refreshTokenKey, 'old-refresh');
+  });
+
+  afterEach(() => {
+    localStorage.clear();
+  });
+
+  it('sends one refresh for simultaneous 401s from both clients', async () => {
+    const results = await Promise.all([
+      apiClient.get('/api/tasks'),
+      api.get('/api/users').then((r) => r.data),
+    ]);
+
+    expect(results).toEqual([[], []]);
+    expect(refreshCalls).toEqual(['old-refresh']);
+    expect(localStorage.getItem(config.auth.tokenKey)).toBe('new-access');
+    expect(localStorage.getItem(config.auth.refreshTokenKey)).toBe('new-refresh');
+  });
+});
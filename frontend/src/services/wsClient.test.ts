@@ -0,0 +1,77 @@
+import { AxiosResponse, InternalAxiosRequestConfig } from 'axios';
+import config from '../config/config';
+import api from './api';
+import wsClient, { isTokenExpired } from './wsClient';
+
+const jwt = (expSeconds: number) =>
+  ['header', btoa(JSON.stringify({ sub: 'alice', exp: expSeconds })), 'signature'].join('.');
+
+const refreshCalls: string[] = [];
+
+const backend = async (request: InternalAxiosRequestConfig): Promise<AxiosResponse> => {
+  refreshCalls.push(JSON.parse(request.data).refreshToken);
+  return {
+    status: 200,
+    statusText: '200',
+    data: { token: 'new-access', refreshToken: 'new-refresh', type: 'Bearer' },
+    headers: {},
+    config: request,
+  } as AxiosResponse;
+};
+
+describe('wsClient CONNECT authorization', () => {
+  const nowSeconds = () => Math.floor(Date.now() / 1000);
+
+  beforeEach(() => {
+    refreshCalls.length = 0;
+    api.defaults.adapter = backend;
+    wsClient.connectRejected = false;
+    localStorage.setItem(config.auth.refreshTokenKey, 'old-refresh');
+  });
+
+  afterEach(() => {
+    localStorage.clear();
+  });
+
+  it('reads the current token on every connect', async () => {
+    const client: any = {};
+    const first = jwt(nowSeconds() + 900);
+    localStorage.setItem(config.auth.tokenKey, first);
+    await wsClient.authorize(client);
+    expect(client.connectHeaders).toEqual({ Authorization: `Bearer ${first}` });
+
+    const second = jwt(nowSeconds() + 901);
+    localStorage.setItem(config.auth.tokenKey, second);
+    await wsClient.authorize(client);
+    expect(client.connectHeaders).toEqual({ Authorization: `Bearer ${second}` });
+    expect(refreshCalls).toEqual([]);
+  });
+
+  it('refreshes an expired token before connecting', async () => {
+    const client: any = {};
+    localStorage.setItem(config.auth.tokenKey, jwt(nowSeconds() - 1));
+
+    await wsClient.authorize(client);
+
+    expect(refreshCalls).toEqual(['old-refresh']);
+    expect(client.connectHeaders).toEqual({ Authorization: 'Bearer new-access' });
+  });
+
+  it('refreshes after a rejected CONNECT', async () => {
+    const client: any = {};
+    localStorage.setItem(config.auth.tokenKey, jwt(nowSeconds() + 900));
+    wsClient.connectRejected = true;
+
+    await wsClient.authorize(client);
+
+    expect(refreshCalls).toEqual(['old-refresh']);
+    expect(client.connectHeaders).toEqual({ Authorization: 'Bearer new-access' });
+    expect(wsClient.connectRejected).toBe(false);
+  });
+
+  it('judges expiry from the exp claim', () => {
+    expect(isTokenExpired(jwt(100), 200_000)).toBe(true);
+    expect(isTokenExpired(jwt(1000), 200_000)).toBe(false);
+    expect(isTokenExpired('not-a-jwt')).toBe(false);
+  });
+});
@@ -1,26 +1,49 @@
 import SockJS from 'sockjs-client';
 import { Client } from '@stomp/stompjs';
 import type { Message } from '@stomp/stompjs';
+import authService from './authService';
 
-const WS_URL = (process.env.REACT_APP_API_BASE_URL || '') + '/ws';
+const API_BASE_URL = process.env.REACT_APP_API_BASE_URL || '';
+// SockJS fallback for networks that block the WebSocket upgrade
+const WS_URL = API_BASE_URL + '/ws';
+// plain WebSocket endpoint, tried first
+const NATIVE_WS_URL = new URL(API_BASE_URL + '/ws-native', window.location.href).href.replace(/^http/, 'ws');
+// refresh this long before the access token's exp, so it cannot expire between the check and the CONNECT
+const EXPIRY_MARGIN_MS = 30000;
+
+/**
+ * Whether a JWT is expired or about to be, judged from its exp claim. Tokens that cannot be decoded are
+ * left to the server to judge.
+ */
+export function isTokenExpired(token: string, now = Date.now()): boolean {
+  try {
+    const payload = token.split('.')[1].replace(/-/g, '+').replace(/_/g, '/');
+    const exp = JSON.parse(atob(payload)).exp;
+    return typeof exp === 'number' && exp * 1000 <= now + EXPIRY_MARGIN_MS;
+  } catch (e) {
+    return false;
+  }
+}
 
 class WSClient {
   client: InstanceType<typeof Client> | null = null;
   reconnectAttempts = 0;
   seenIds = new Set<number>();
+  // switch to SockJS only when the plain WebSocket never opened (upgrade blocked or endpoint
+  // unreachable); a socket closed after opening, e.g. on a rejected STOMP CONNECT, is not a transport failure
+  useSockJS = typeof WebSocket === 'undefined';
+  nativeOpened = false;
+  // the server answered the last CONNECT with an ERROR frame, e.g. because the token was rejected
+  connectRejected = false;
 
   connect(onMessage: (msg: any) => void) {
     if (this.client && this.client.connected) return;
 
-  const socket = new SockJS(WS_URL);
-  // debug: log SockJS lifecycle events
-  (socket as any).onopen = () => console.log('[ws] sockjs: open', WS_URL);
-  (socket as any).onclose = () => console.log('[ws] sockjs: close');
-  (socket as any).onmessage = (ev: any) => console.debug('[ws] sockjs: message', ev);
-    const token = localStorage.getItem(process.env.REACT_APP_JWT_TOKEN_KEY || 'taskmanagement_token');
-
     this.client = new Client({
-      webSocketFactory: () => socket as any,
+      webSocketFactory: () => this.createSocket(),
+      // runs before every (re)connect, so the CONNECT frame carries the current token rather than the
+      // one stored when connect() was first called; access tokens expire after jwt.expiration
+      beforeConnect: (client) => this.authorize(client),
       debug: () => {},
       reconnectDelay: 0, // we'll handle backoff manually
       onReconnect: () => {
@@ -46,11 +69,16 @@ class WSClient {
     };
 
     this.client.onStompError = (frame: any) => {
-      // handle server error frames if needed
+      if (!this.client?.connected) {
+        this.connectRejected = true;
+      }
     };
 
     this.client.onWebSocketClose = () => {
   console.log('[ws] stomp: websocket closed, will attempt reconnect', this.reconnectAttempts + 1);
+      if (!this.useSockJS && !this.nativeOpened) {
+        this.useSockJS = true;
+      }
       // exponential backoff reconnect
       this.reconnectAttempts += 1;
       const delay = Math.min(30000, 1000 * Math.pow(2, Math.min(6, this.reconnectAttempts)));
@@ -59,13 +87,31 @@ class WSClient {
       }, delay);
     };
 
-    // attach Authorization header on connect
-    if (token) {
-      this.client.connectHeaders = { Authorization: `Bearer ${token}` } as any;
+    this.client.activate();
+  }
+
+  /**
+   * Attach the Authorization header for the next CONNECT, refreshing the access token first when it
+   * has expired or the previous CONNECT was rejected. Concurrent refreshes share one request.
+   */
+  async authorize(client: InstanceType<typeof Client>) {
+    let token = authService.getToken();
+    if (token && (this.connectRejected || isTokenExpired(token))) {
+      token = await authService.refreshToken();
     }
+    this.connectRejected = false;
+    client.connectHeaders = token ? { Authorization: `Bearer ${token}` } : {};
+  }
 
-  console.log('[ws] activating stomp client', { url: WS_URL, hasToken: !!token });
-    this.client.activate();
+  createSocket() {
+    if (!this.useSockJS) {
+      const socket = new WebSocket(NATIVE_WS_URL, ['v12.stomp', 'v11.stomp', 'v10.stomp']);
+      socket.addEventListener('open', () => {
+        this.nativeOpened = true;
+      });
+      return socket;
+    }
+    return new SockJS(WS_URL) as any;
   }
 
   disconnect() {